@@ -0,0 +1,30 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.api_test.contract.ContractValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-response cost of the contract check done by ContractValidationFilter
+ * (parse once + validate against the cached compiled schema).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractValidationBenchmark {
+
+    @Benchmark
+    public List<String> validateSuccess() {
+        return ContractValidator.validate(JsonBenchmark.SUCCESS_BODY, "register-success");
+    }
+
+    @Benchmark
+    public List<String> validateValidationError() {
+        return ContractValidator.validate(JsonBenchmark.VALIDATION_BODY, "register-error");
+    }
+}
@@ -0,0 +1,74 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.api_test.endpoints.AsyncUserEndpoints;
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the REST Assured client vs the async java.net.http client.
+ *
+ * Both clients call the embedded stub with zero latency and a pre-registered email, so every
+ * request takes the same 409 path and the measured time is dominated by client-side work
+ * (request building, serialization, transport, response mapping).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndpointClientBenchmark {
+
+    private static final String EMAIL = "bench@skillboost.test";
+    private static final int BATCH = 32;
+
+    private AuthStubServer stub;
+    private UserEndpoints restAssured;
+    private AsyncUserEndpoints async;
+    private RegisterRequest request;
+
+    @Setup
+    public void setUp() {
+        stub = AuthStubServer.start(StubConfig.defaults().seedEmails(List.of(EMAIL)));
+        restAssured = new UserEndpoints(stub.getBaseUrl());
+        async = new AsyncUserEndpoints(stub.getBaseUrl());
+
+        request = new RegisterRequest();
+        request.setEmail(EMAIL);
+        request.setPassword("Aa1@aQQQ");
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public RegisterResponse restAssuredRegister() {
+        return restAssured.register(request);
+    }
+
+    @Benchmark
+    public RegisterResponse asyncRegister() {
+        return async.register(request).join();
+    }
+
+    /** Throughput view: one thread keeping BATCH async requests in flight. */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void asyncRegisterBatch() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            futures[i] = async.register(request);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,69 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test-data and model (de)serialization hot paths.
+ * Runs from the api-tests module directory so the relative test-data paths resolve.
+ * The UI data reader is measured in ui-tests ({@code JsonDataReaderBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    static final byte[] SUCCESS_BODY = ("""
+            {"success":true,"message":"User registered successfully",
+             "data":{"id":"3f0c2a4e-1b7d-4d2e-9a51-6c1d2f3e4a5b","email":"new.user@skillboost.test",
+                     "username":"new.user","role":"USER","state":"ACTIVE","tourStatus":"PENDING",
+                     "is_verified":false,"premiumTier":"FREE","language":"en","timezone":"UTC"},
+             "metadata":{"traceId":"9d8c7b6a-5f4e-3d2c-1b0a-998877665544","timestamp":"2025-01-01T00:00:00Z"}}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    static final byte[] VALIDATION_BODY = ("""
+            {"success":false,"status":400,"message":"Validation failed","instance":"/api/v1/auth/register",
+             "errors":[{"field":"email","message":"Email is required"},
+                       {"field":"password","message":"Password must be at least 8 characters"}],
+             "metadata":{"traceId":"9d8c7b6a-5f4e-3d2c-1b0a-998877665544","timestamp":"2025-01-01T00:00:00Z"}}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private RegisterRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new RegisterRequest();
+        request.setEmail("new.user@skillboost.test");
+        request.setPassword("Aa1@aQQQ");
+    }
+
+    @Benchmark
+    public Map<?, ?> jsonUtilsFromJsonFile() {
+        return JsonUtils.fromJsonFile("src/test/resources/api/testdata/user_test_data.json", Map.class);
+    }
+
+    @Benchmark
+    public String jsonUtilsToJsonString() {
+        return JsonUtils.toJsonString(request);
+    }
+
+    @Benchmark
+    public RegisterResponse registerResponseSuccess() {
+        return ApiJson.read(SUCCESS_BODY, RegisterResponse.class);
+    }
+
+    @Benchmark
+    public RegisterResponse registerResponseValidationError() {
+        return ApiJson.read(VALIDATION_BODY, RegisterResponse.class);
+    }
+}
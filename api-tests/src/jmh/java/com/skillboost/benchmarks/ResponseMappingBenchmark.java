@@ -0,0 +1,50 @@
+package com.skillboost.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response mapping before and after the shared Blackbird mapper.
+ *
+ * The "legacy" benchmarks mirror what response.as(RegisterResponse.class) did: decode the body
+ * into a String, then bind it with a plain reflective mapper. The "apiJson" ones read the bytes
+ * directly through ApiJson's cached reader. Run with "-prof gc" to compare allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private final ObjectMapper legacyMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Benchmark
+    public RegisterResponse legacySuccess() throws IOException {
+        return legacyMapper.readValue(new String(JsonBenchmark.SUCCESS_BODY, StandardCharsets.UTF_8), RegisterResponse.class);
+    }
+
+    @Benchmark
+    public RegisterResponse legacyValidationError() throws IOException {
+        return legacyMapper.readValue(new String(JsonBenchmark.VALIDATION_BODY, StandardCharsets.UTF_8), RegisterResponse.class);
+    }
+
+    @Benchmark
+    public RegisterResponse apiJsonSuccess() {
+        return ApiJson.read(JsonBenchmark.SUCCESS_BODY, RegisterResponse.class);
+    }
+
+    @Benchmark
+    public RegisterResponse apiJsonValidationError() {
+        return ApiJson.read(JsonBenchmark.VALIDATION_BODY, RegisterResponse.class);
+    }
+}
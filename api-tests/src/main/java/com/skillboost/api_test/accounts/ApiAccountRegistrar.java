@@ -0,0 +1,47 @@
+package com.skillboost.api_test.accounts;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.utils.ApiConfig;
+import com.skillboost.common.accounts.AccountRegistrar;
+import com.skillboost.common.accounts.TestAccount;
+
+/**
+ * Registers pool accounts through {@link UserEndpoints#register} against the API of the active
+ * environment in api-config.json (the embedded stub with -Dapi.environment=stub).
+ * Registered in META-INF/services for {@link com.skillboost.common.accounts.AccountPoolSessionListener}.
+ */
+public class ApiAccountRegistrar implements AccountRegistrar {
+
+    private final UserEndpoints endpoints;
+
+    public ApiAccountRegistrar() {
+        this(new UserEndpoints(ApiConfig.getBaseUrl()));
+    }
+
+    public ApiAccountRegistrar(UserEndpoints endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    @Override
+    public String baseUrl() {
+        return endpoints.getBaseUrl();
+    }
+
+    @Override
+    public Outcome register(TestAccount account) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(account.email());
+        request.setPassword(account.password());
+
+        RegisterResponse response = endpoints.register(request);
+        if (Boolean.TRUE.equals(response.getSuccess())) {
+            return Outcome.CREATED;
+        }
+        if (response.getStatus() != null && response.getStatus() == 409) {
+            return Outcome.ALREADY_REGISTERED;
+        }
+        throw new IllegalStateException(response.getStatus() + " " + response.getMessage());
+    }
+}
@@ -0,0 +1,58 @@
+package com.skillboost.api_test.base;
+
+import com.skillboost.api_test.client.PooledHttpTransport;
+import com.skillboost.api_test.contract.ContractValidationFilter;
+import com.skillboost.api_test.logging.ApiLogCaptureExtension;
+import com.skillboost.api_test.logging.SampledLoggingFilter;
+import com.skillboost.api_test.utils.ApiConfig;
+import com.skillboost.api_test.vcr.VcrTestExtension;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+// Exchanges of failed tests are attached to Allure by the capture extension
+@ExtendWith({ApiLogCaptureExtension.class, VcrTestExtension.class})
+public class BaseTest {
+
+    // Resolved from api-config.json; -Dapi.environment=stub switches to the embedded stub server
+    protected static final String BASE_URL = ApiConfig.getBaseUrl();
+
+    protected static RequestSpecification requestSpec;
+    protected static ResponseSpecification responseSpec;
+
+    @BeforeAll
+    public static void setup() {
+
+        // Base URI of your backend
+        RestAssured.baseURI = BASE_URL;
+        RestAssured.config = PooledHttpTransport.config();
+
+        // Request specification
+        requestSpec = new RequestSpecBuilder()
+                .setContentType(ContentType.JSON)
+                .addHeader("Accept", "application/json")
+                // Sampled, truncated, asynchronous logging (see api.log.* properties)
+                .addFilter(new SampledLoggingFilter())
+                // Every response is checked against its JSON Schema (-Dapi.contract.validate=false to skip)
+                .addFilter(new ContractValidationFilter())
+                .build();
+
+        // Response specification
+        responseSpec = new ResponseSpecBuilder()
+                .expectContentType(ContentType.JSON)
+                .build();
+    }
+
+    @AfterAll
+    public static void reportTransportMetrics() {
+        System.out.println("🔌 API transport → " + PooledHttpTransport.metrics().summary());
+        System.out.println("🚦 API throttling → " + PooledHttpTransport.throttleMetrics().summary());
+    }
+}
@@ -0,0 +1,125 @@
+package com.skillboost.api_test.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD (additive-increase / multiplicative-decrease) cap on concurrent requests to one endpoint.
+ *
+ * Every successful response grows the limit by 1/limit (about +1 per round trip of the whole window);
+ * a throttled response halves it and pauses all callers until the server's Retry-After has passed.
+ * Only one decrease is applied per congestion event: responses to requests that were started
+ * before the last decrease do not shrink the window again.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long pausedUntilNanos;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency bounds: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Blocks until the caller may send a request.
+     *
+     * @return the start timestamp to pass back to {@link #onSuccess}, {@link #onThrottled} or {@link #onError}
+     */
+    public long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long pause = pausedUntilNanos - System.nanoTime();
+                if (pause > 0) {
+                    changed.awaitNanos(pause);
+                } else if (inFlight >= (int) limit) {
+                    changed.await();
+                } else {
+                    break;
+                }
+            }
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(long startNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param retryAfterMillis how long all callers should hold off before the next request
+     */
+    public void onThrottled(long startNanos, long retryAfterMillis) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+            if (startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit / 2);
+                lastDecreaseNanos = now;
+            }
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Releases the slot without changing the limit (e.g. connection errors). */
+    public void onError(long startNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Back to the starting window with no pause; requests in flight keep their slots. */
+    public void reset() {
+        lock.lock();
+        try {
+            limit = maxLimit;
+            pausedUntilNanos = System.nanoTime();
+            lastDecreaseNanos = System.nanoTime();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.skillboost.api_test.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.skillboost.api_test.models.user.response.ErrorItem;
+import com.skillboost.api_test.models.user.response.Metadata;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.models.user.response.UserData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single, preconfigured Jackson mapper shared by every API client (REST Assured and async).
+ * ObjectMapper is thread-safe once configured, so there is no reason to build one per call.
+ *
+ * The Blackbird module replaces reflective setter/constructor calls on the Lombok models with
+ * generated lambdas. Responses are mapped straight from the body bytes through one cached
+ * ObjectReader per type, bypassing REST Assured's object-mapper lookup and String decoding.
+ */
+public final class ApiJson {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    static {
+        // Resolve the response model deserializers up front so the first test call does not pay for it
+        for (Class<?> model : new Class<?>[]{RegisterResponse.class, UserData.class, ErrorItem.class, Metadata.class}) {
+            reader(model);
+        }
+    }
+
+    private ApiJson() {
+        // Prevent instantiation
+    }
+
+    public static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * Returns the cached reader for the given type; its deserializer is resolved only once.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    /**
+     * Maps a raw response body into the given model.
+     */
+    public static <T> T read(byte[] body, Class<T> type) {
+        try {
+            return reader(type).readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map response body to " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Maps a response body stream into the given model. The stream is closed afterwards.
+     */
+    public static <T> T read(InputStream body, Class<T> type) {
+        try (InputStream in = body) {
+            return reader(type).readValue(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map response body to " + type.getSimpleName(), e);
+        }
+    }
+}
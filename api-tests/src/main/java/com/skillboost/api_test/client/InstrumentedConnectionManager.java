@@ -0,0 +1,58 @@
+package com.skillboost.api_test.client;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooling connection manager that times every new physical connection.
+ *
+ * REST Assured still drives Apache HttpClient through the 4.x {@code AbstractHttpClient}
+ * API, so the pool has to be the matching (deprecated) {@link PoolingClientConnectionManager}.
+ */
+@SuppressWarnings("deprecation")
+class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+
+    InstrumentedConnectionManager(SchemeRegistry schemeRegistry, long timeToLive, TimeUnit unit) {
+        super(schemeRegistry, timeToLive, unit);
+    }
+
+    /**
+     * Called from the super constructor, so it must not touch instance fields.
+     */
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        return new TimingOperator(new DefaultClientConnectionOperator(schemeRegistry));
+    }
+
+    private record TimingOperator(ClientConnectionOperator delegate) implements ClientConnectionOperator {
+
+        @Override
+        public OperatedClientConnection createConnection() {
+            return delegate.createConnection();
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            delegate.openConnection(conn, target, local, context, params);
+            TransportMetrics.global().onConnectionOpened(System.nanoTime() - start);
+        }
+
+        @Override
+        public void updateSecureConnection(OperatedClientConnection conn, HttpHost target,
+                                           HttpContext context, HttpParams params) throws IOException {
+            delegate.updateSecureConnection(conn, target, context, params);
+        }
+    }
+}
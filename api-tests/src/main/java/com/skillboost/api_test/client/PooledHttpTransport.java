@@ -0,0 +1,176 @@
+package com.skillboost.api_test.client;
+
+import com.skillboost.api_test.latency.EndpointTimingFilter;
+import com.skillboost.api_test.vcr.VcrFilter;
+import com.skillboost.api_test.vcr.VcrMode;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared, keep-alive HTTP transport for all REST Assured endpoint classes.
+ *
+ * One pooled Apache HttpClient is created per JVM and reused by every request
+ * (REST Assured otherwise builds a new client, and therefore a new TCP/TLS
+ * connection, per request). Idle and expired connections are evicted by a daemon thread.
+ * Every endpoint template also gets its shared {@link ThrottlingFilter} (see api.throttle.*)
+ * and an {@link EndpointTimingFilter} for latency budgets; with -Dapi.vcr.mode set, also the
+ * endpoint's record/replay {@link VcrFilter}.
+ *
+ * Tunable through system properties:
+ *   api.http.maxTotal          - pool size across all routes (default 50)
+ *   api.http.maxPerRoute       - connections per host (default 20)
+ *   api.http.keepAliveSeconds  - keep-alive when the server sends no hint (default 30)
+ *   api.http.idleEvictSeconds  - idle time before a pooled connection is closed (default 30)
+ */
+@SuppressWarnings("deprecation")
+public final class PooledHttpTransport {
+
+    private static final int MAX_TOTAL = Integer.getInteger("api.http.maxTotal", 50);
+    private static final int MAX_PER_ROUTE = Integer.getInteger("api.http.maxPerRoute", 20);
+    private static final long KEEP_ALIVE_MS = TimeUnit.SECONDS.toMillis(Long.getLong("api.http.keepAliveSeconds", 30));
+    private static final long IDLE_EVICT_SECONDS = Long.getLong("api.http.idleEvictSeconds", 30);
+
+    private static final EndpointTimingFilter TIMING_FILTER = new EndpointTimingFilter();
+
+    private static final InstrumentedConnectionManager connectionManager = createConnectionManager();
+    private static final DefaultHttpClient httpClient = createHttpClient();
+    private static final RestAssuredConfig config = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> httpClient));
+
+    static {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "api-http-idle-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, IDLE_EVICT_SECONDS / 2);
+        evictor.scheduleAtFixedRate(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(IDLE_EVICT_SECONDS, TimeUnit.SECONDS);
+            TransportMetrics.global().onEviction();
+        }, period, period, TimeUnit.SECONDS);
+    }
+
+    private PooledHttpTransport() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the REST Assured config bound to the shared connection pool.
+     */
+    public static RestAssuredConfig config() {
+        return config;
+    }
+
+    /**
+     * Builds a reusable request template for one endpoint.
+     * Build it once (e.g. in the endpoint constructor) and pass it to {@code RestAssured.given(template)}.
+     *
+     * @param baseUrl  API base URL
+     * @param basePath endpoint path, e.g. "/auth/register"
+     * @param baseSpec shared specification (headers, filters) to merge in, may be null
+     */
+    public static RequestSpecification template(String baseUrl, String basePath, RequestSpecification baseSpec) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(config)
+                .setBaseUri(baseUrl)
+                .setBasePath(basePath)
+                .setContentType(ContentType.JSON)
+                .addFilter(TIMING_FILTER);
+        if (ThrottlingFilter.ENABLED) {
+            builder.addFilter(ThrottlingFilter.forEndpoint(basePath));
+        }
+        if (VcrFilter.MODE != VcrMode.OFF) {
+            builder.addFilter(VcrFilter.forEndpoint(basePath));
+        }
+        if (baseSpec != null) {
+            mergeShared(builder, (FilterableRequestSpecification) baseSpec);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Copies only headers, cookies, content type and filters from the shared spec.
+     * addRequestSpecification would also take its base URI, port and path (REST Assured
+     * fills them with defaults), sending every endpoint to "POST /" on the default host.
+     */
+    private static void mergeShared(RequestSpecBuilder builder, FilterableRequestSpecification shared) {
+        if (shared.getContentType() != null) {
+            builder.setContentType(shared.getContentType());
+        }
+        shared.getHeaders().forEach(header -> builder.addHeader(header.getName(), header.getValue()));
+        shared.getCookies().forEach(builder::addCookie);
+        builder.addFilters(shared.getDefinedFilters());
+    }
+
+    /**
+     * Returns the connection reuse and handshake counters.
+     */
+    public static TransportMetrics.Snapshot metrics() {
+        return TransportMetrics.global().snapshot();
+    }
+
+    /**
+     * Returns the rate governor's throughput and throttle counters.
+     */
+    public static ThrottleMetrics.Snapshot throttleMetrics() {
+        return ThrottleMetrics.global().snapshot();
+    }
+
+    // ─────────────────────────────────────────────
+    // Pool setup
+    // ─────────────────────────────────────────────
+    private static InstrumentedConnectionManager createConnectionManager() {
+        InstrumentedConnectionManager manager = new InstrumentedConnectionManager(
+                SchemeRegistryFactory.createDefault(), -1, TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        return manager;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy(keepAliveStrategy());
+        client.addRequestInterceptor((request, context) -> TransportMetrics.global().onRequest());
+        return client;
+    }
+
+    /**
+     * Honors the server's Keep-Alive timeout when present and falls back to the
+     * configured default instead of HttpClient's "keep forever".
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (HttpResponse response, HttpContext context) -> {
+            BasicHeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement element = it.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    } catch (NumberFormatException ignored) {
+                        // fall through to the default
+                    }
+                }
+            }
+            return KEEP_ALIVE_MS;
+        };
+    }
+}
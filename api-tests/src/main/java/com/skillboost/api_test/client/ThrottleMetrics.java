@@ -0,0 +1,87 @@
+package com.skillboost.api_test.client;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the client-side rate governor ({@link ThrottlingFilter}).
+ *
+ * "Throttled" counts 429/503 responses seen by the client, "retries" the requests re-sent after one,
+ * and "exhausted" the requests that were still throttled after the last retry. Wait time is the time
+ * callers spent blocked in the token bucket or the concurrency limiter.
+ */
+public final class ThrottleMetrics {
+
+    private static final ThrottleMetrics GLOBAL = new ThrottleMetrics();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong firstRequestNanos = new AtomicLong();
+
+    private ThrottleMetrics() {
+    }
+
+    /** Returns the process-wide metrics shared by all endpoints. */
+    public static ThrottleMetrics global() {
+        return GLOBAL;
+    }
+
+    void onRequest(long waitedNanos) {
+        firstRequestNanos.compareAndSet(0, System.nanoTime());
+        requests.increment();
+        waitNanos.add(waitedNanos);
+    }
+
+    void onThrottled() {
+        throttled.increment();
+    }
+
+    void onRetry() {
+        retries.increment();
+    }
+
+    void onExhausted() {
+        exhausted.increment();
+    }
+
+    public Snapshot snapshot() {
+        long first = firstRequestNanos.get();
+        double elapsedSeconds = first == 0 ? 0 : (System.nanoTime() - first) / 1e9;
+        return new Snapshot(requests.sum(), throttled.sum(), retries.sum(), exhausted.sum(),
+                waitNanos.sum(), elapsedSeconds, new TreeMap<>(ThrottlingFilter.concurrencyLimits()));
+    }
+
+    /**
+     * Immutable view of the governor counters plus the current AIMD limit per endpoint.
+     */
+    public record Snapshot(long requests, long throttled, long retries, long exhausted,
+                           long waitNanos, double elapsedSeconds, Map<String, Double> concurrencyLimits) {
+
+        public double throughputPerSecond() {
+            return elapsedSeconds == 0 ? 0.0 : requests / elapsedSeconds;
+        }
+
+        public double throttleRatio() {
+            return requests == 0 ? 0.0 : (double) throttled / requests;
+        }
+
+        public double averageWaitMillis() {
+            return requests == 0 ? 0.0 : waitNanos / 1_000_000.0 / requests;
+        }
+
+        public String summary() {
+            StringBuilder limits = new StringBuilder();
+            concurrencyLimits.forEach((endpoint, limit) ->
+                    limits.append(limits.isEmpty() ? "" : ", ").append(endpoint).append('=').append(String.format("%.1f", limit)));
+            return String.format(
+                    "requests=%d (%.1f/s), throttled=%d (%.1f%%), retries=%d, exhausted=%d, wait avg=%.1fms, limits=[%s]",
+                    requests, throughputPerSecond(), throttled, throttleRatio() * 100, retries, exhausted,
+                    averageWaitMillis(), limits);
+        }
+    }
+}
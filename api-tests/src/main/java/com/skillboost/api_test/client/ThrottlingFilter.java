@@ -0,0 +1,187 @@
+package com.skillboost.api_test.client;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Client-side rate governor for one endpoint, installed by {@link PooledHttpTransport#template}.
+ *
+ * Each request first takes a permit from the endpoint's {@link TokenBucket}, then a slot from its
+ * {@link AdaptiveConcurrencyLimiter}. A 429 or 503 halves the concurrency window and pauses the
+ * endpoint for the server's Retry-After (or an exponential backoff). The filter sends each request
+ * exactly once (a REST Assured filter chain cannot be replayed); endpoint classes re-send throttled
+ * requests through {@link #withRetries}, which runs the whole chain again and so waits out the pause.
+ * Governors are shared per endpoint across all threads and endpoint instances.
+ *
+ * Tunable through system properties:
+ *   api.throttle.enabled         - install the governor at all (default true)
+ *   api.throttle.rps             - default permits per second per endpoint, 0 = unlimited (default 0)
+ *   api.throttle.rps.[endpoint]  - per-endpoint override, e.g. api.throttle.rps.register=10
+ *   api.throttle.burst           - token bucket burst size (default 5)
+ *   api.throttle.minConcurrency  - AIMD floor (default 1)
+ *   api.throttle.maxConcurrency  - AIMD ceiling and starting window (default 32)
+ *   api.throttle.maxRetries      - re-sends after a 429/503 by {@link #withRetries} (default 3)
+ *   api.throttle.maxBackoffMs    - cap on Retry-After / backoff waits (default 30000)
+ */
+public class ThrottlingFilter implements OrderedFilter {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("api.throttle.enabled", "true"));
+
+    private static final double DEFAULT_RPS = Double.parseDouble(System.getProperty("api.throttle.rps", "0"));
+    private static final int BURST = Integer.getInteger("api.throttle.burst", 5);
+    private static final int MIN_CONCURRENCY = Integer.getInteger("api.throttle.minConcurrency", 1);
+    private static final int MAX_CONCURRENCY = Integer.getInteger("api.throttle.maxConcurrency", 32);
+    private static final int MAX_RETRIES = Integer.getInteger("api.throttle.maxRetries", 3);
+    private static final long MAX_BACKOFF_MS = Long.getLong("api.throttle.maxBackoffMs", 30_000);
+    private static final long BASE_BACKOFF_MS = 200;
+
+    private static final Map<String, ThrottlingFilter> governors = new ConcurrentHashMap<>();
+    /** Re-send number of the request on this thread, for the backoff of the next throttled response. */
+    private static final ThreadLocal<Integer> attempt = ThreadLocal.withInitial(() -> 0);
+
+    private final String endpoint;
+    private final TokenBucket bucket;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private ThrottlingFilter(String endpoint) {
+        this.endpoint = endpoint;
+        String rps = System.getProperty("api.throttle.rps." + endpoint);
+        this.bucket = new TokenBucket(rps == null ? DEFAULT_RPS : Double.parseDouble(rps), BURST);
+        this.limiter = new AdaptiveConcurrencyLimiter(MIN_CONCURRENCY, MAX_CONCURRENCY);
+    }
+
+    /**
+     * Returns the shared governor for an endpoint path; the name is its last segment ("/auth/register" → "register").
+     */
+    public static ThrottlingFilter forEndpoint(String path) {
+        String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        String name = trimmed.substring(trimmed.lastIndexOf('/') + 1);
+        return governors.computeIfAbsent(name.isEmpty() ? "root" : name, ThrottlingFilter::new);
+    }
+
+    /** Current AIMD window of every endpoint seen so far. */
+    static Map<String, Double> concurrencyLimits() {
+        Map<String, Double> limits = new ConcurrentHashMap<>();
+        governors.forEach((name, governor) -> limits.put(name, governor.limiter.getLimit()));
+        return limits;
+    }
+
+    /**
+     * Restores every governor to its initial state: full window, no pause, full token bucket.
+     * Only for the throttle's own tests, which provoke throttling on purpose; suites against a real
+     * server must keep the learned window and any Retry-After pause.
+     */
+    public static void resetGovernors() {
+        governors.values().forEach(governor -> {
+            governor.limiter.reset();
+            governor.bucket.reset();
+        });
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sends a request and re-sends it while it is answered with 429 or 503, at most api.throttle.maxRetries times.
+     *
+     * @param send performs one complete request, e.g. {@code () -> RestAssured.given(template).post()}
+     * @return the first response that is not throttled, or the last throttled one
+     */
+    public static Response withRetries(Supplier<Response> send) {
+        ThrottleMetrics metrics = ThrottleMetrics.global();
+        try {
+            for (int retry = 0; ; retry++) {
+                attempt.set(retry);
+                Response response = send.get();
+                if (!isThrottled(response.statusCode())) {
+                    return response;
+                }
+                if (retry >= MAX_RETRIES) {
+                    metrics.onExhausted();
+                    return response;
+                }
+                metrics.onRetry();
+            }
+        } finally {
+            attempt.remove();
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ThrottleMetrics metrics = ThrottleMetrics.global();
+        long start;
+        try {
+            long waited = System.nanoTime();
+            bucket.acquire();
+            start = limiter.acquire();
+            metrics.onRequest(start - waited);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + endpoint + " request permit", e);
+        }
+
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            limiter.onError(start);
+            throw e;
+        }
+
+        if (!isThrottled(response.statusCode())) {
+            limiter.onSuccess(start);
+            return response;
+        }
+        metrics.onThrottled();
+        limiter.onThrottled(start, backoffMillis(response.getHeader("Retry-After"), attempt.get()));
+        return response;
+    }
+
+    /** 429 and 503 are answers of an overloaded server, not measures of its latency. */
+    public static boolean isThrottled(int status) {
+        return status == 429 || status == 503;
+    }
+
+    /**
+     * Retry-After as delay-seconds or HTTP-date; otherwise exponential backoff with jitter.
+     */
+    static long backoffMillis(String retryAfter, int attempt) {
+        if (retryAfter != null && !retryAfter.isBlank()) {
+            try {
+                return Math.min(MAX_BACKOFF_MS, Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException notSeconds) {
+                try {
+                    ZonedDateTime at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                    long millis = Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis();
+                    return Math.min(MAX_BACKOFF_MS, Math.max(0, millis));
+                } catch (DateTimeParseException ignored) {
+                    // fall through to backoff
+                }
+            }
+        }
+        long ceiling = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    /** Runs inside contract validation (which checks the final response) and outside logging. */
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+}
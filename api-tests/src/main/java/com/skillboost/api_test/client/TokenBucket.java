@@ -0,0 +1,94 @@
+package com.skillboost.api_test.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe token bucket that spaces requests to a steady rate with a bounded burst.
+ *
+ * Permits are reserved rather than polled: a caller takes a token immediately (the balance may go
+ * negative) and then sleeps outside the lock until its reservation is due. This keeps waiting
+ * threads in FIFO order without a busy loop. A rate of 0 or less means "unlimited".
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratePerSecond;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param ratePerSecond sustained permits per second (0 or less disables limiting)
+     * @param burst         permits that may be taken at once after an idle period (at least 1)
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public static TokenBucket unlimited() {
+        return new TokenBucket(0, 1);
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public boolean isUnlimited() {
+        return ratePerSecond <= 0;
+    }
+
+    /**
+     * Blocks until a permit is available.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() throws InterruptedException {
+        if (isUnlimited()) {
+            return 0;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * NANOS_PER_SECOND);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Takes a permit only if one is available right now.
+     */
+    public boolean tryAcquire() {
+        if (isUnlimited()) {
+            return true;
+        }
+        synchronized (this) {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /** Refills the bucket to capacity. */
+    public synchronized void reset() {
+        tokens = capacity;
+        lastRefillNanos = System.nanoTime();
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
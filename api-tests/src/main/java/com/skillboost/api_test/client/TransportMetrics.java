@@ -0,0 +1,82 @@
+package com.skillboost.api_test.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection-level counters for the shared HTTP transport.
+ *
+ * A "handshake" is the time spent opening a new physical connection
+ * (TCP connect plus TLS negotiation for https targets). Requests served on an
+ * already open pooled connection do not record a handshake, so the reuse ratio is
+ * 1 - (connections opened / requests sent).
+ */
+public final class TransportMetrics {
+
+    private static final TransportMetrics GLOBAL = new TransportMetrics();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder handshakeNanos = new LongAdder();
+    private final LongAccumulator maxHandshakeNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong evictionRuns = new AtomicLong();
+
+    private TransportMetrics() {
+    }
+
+    /** Returns the process-wide metrics shared by all endpoint clients. */
+    public static TransportMetrics global() {
+        return GLOBAL;
+    }
+
+    void onRequest() {
+        requests.increment();
+    }
+
+    void onConnectionOpened(long nanos) {
+        connectionsOpened.increment();
+        handshakeNanos.add(nanos);
+        maxHandshakeNanos.accumulate(nanos);
+    }
+
+    void onEviction() {
+        evictionRuns.incrementAndGet();
+    }
+
+    /** Takes a consistent-enough point-in-time copy of the counters. */
+    public Snapshot snapshot() {
+        return new Snapshot(
+                requests.sum(),
+                connectionsOpened.sum(),
+                handshakeNanos.sum(),
+                maxHandshakeNanos.get(),
+                evictionRuns.get());
+    }
+
+    /**
+     * Immutable view of the transport counters.
+     */
+    public record Snapshot(long requests, long connectionsOpened, long handshakeNanos,
+                           long maxHandshakeNanos, long evictionRuns) {
+
+        public double reuseRatio() {
+            return requests == 0 ? 0.0 : Math.max(0.0, 1.0 - (double) connectionsOpened / requests);
+        }
+
+        public double averageHandshakeMillis() {
+            return connectionsOpened == 0 ? 0.0 : handshakeNanos / 1_000_000.0 / connectionsOpened;
+        }
+
+        public double maxHandshakeMillis() {
+            return maxHandshakeNanos / 1_000_000.0;
+        }
+
+        public String summary() {
+            return String.format(
+                    "requests=%d, connectionsOpened=%d, reuseRatio=%.1f%%, handshake avg=%.1fms max=%.1fms, evictionRuns=%d",
+                    requests, connectionsOpened, reuseRatio() * 100, averageHandshakeMillis(),
+                    maxHandshakeMillis(), evictionRuns);
+        }
+    }
+}
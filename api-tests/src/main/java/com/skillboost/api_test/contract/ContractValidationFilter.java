@@ -0,0 +1,60 @@
+package com.skillboost.api_test.contract;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Validates every response of a known endpoint against its contract before the test sees it.
+ *
+ * Endpoints are matched by path suffix; 2xx responses are checked against the success schema
+ * and everything else against the error schema. Responses of unknown endpoints pass through.
+ * Disable with {@code -Dapi.contract.validate=false}.
+ */
+public class ContractValidationFilter implements OrderedFilter {
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("api.contract.validate", "true"));
+
+    /** Path suffix → [success schema, error schema] */
+    private static final Map<String, String[]> CONTRACTS = Map.of(
+            "/auth/register", new String[]{"register-success", "register-error"}
+    );
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (!ENABLED) {
+            return response;
+        }
+
+        String[] schemas = contractFor(URI.create(requestSpec.getURI()).getPath());
+        if (schemas != null) {
+            String schema = response.statusCode() < 300 ? schemas[0] : schemas[1];
+            ContractValidator.assertValid(response.asByteArray(), schema);
+        }
+        return response;
+    }
+
+    private static String[] contractFor(String path) {
+        for (Map.Entry<String, String[]> contract : CONTRACTS.entrySet()) {
+            if (path.endsWith(contract.getKey())) {
+                return contract.getValue();
+            }
+        }
+        return null;
+    }
+
+    /** Validates the final response, i.e. after throttling/retry filters have done their work. */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
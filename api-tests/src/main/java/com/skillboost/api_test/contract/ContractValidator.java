@@ -0,0 +1,67 @@
+package com.skillboost.api_test.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.skillboost.api_test.client.ApiJson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks response bodies against the compiled schemas in {@link SchemaRegistry}.
+ *
+ * The body is parsed into a tree exactly once and checked with the cheap boolean
+ * {@code validInstance} call; the full report (and its messages) is only built
+ * when the body does not match.
+ */
+public final class ContractValidator {
+
+    private ContractValidator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * @return the schema violations, empty when the body matches
+     */
+    public static List<String> validate(byte[] body, String schemaName) {
+        JsonNode instance;
+        try {
+            instance = ApiJson.mapper().readTree(body);
+        } catch (IOException e) {
+            return List.of("Body is not valid JSON: " + e.getMessage());
+        }
+        return validate(instance, schemaName);
+    }
+
+    public static List<String> validate(JsonNode instance, String schemaName) {
+        JsonSchema schema = SchemaRegistry.get(schemaName);
+        try {
+            if (schema.validInstance(instance)) {
+                return List.of();
+            }
+            ProcessingReport report = schema.validate(instance);
+            List<String> violations = new ArrayList<>();
+            for (ProcessingMessage message : report) {
+                violations.add(message.getMessage() + " at " + message.asJson().path("instance").path("pointer").asText("/"));
+            }
+            return violations;
+        } catch (ProcessingException e) {
+            return List.of("Schema " + schemaName + " could not be applied: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Throws an AssertionError listing every violation when the body does not match the schema.
+     */
+    public static void assertValid(byte[] body, String schemaName) {
+        List<String> violations = validate(body, schemaName);
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Response does not match schema '" + schemaName + "':\n  - "
+                    + String.join("\n  - ", violations));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.skillboost.api_test.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.common.impact.ImpactTracer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the response contracts under {@code api/schemas/} from the classpath
+ * and keeps each one compiled for the lifetime of the JVM.
+ *
+ * A compiled {@link JsonSchema} is immutable and thread-safe, so one instance per schema
+ * is shared by every test thread and load-generator worker.
+ */
+public final class SchemaRegistry {
+
+    private static final String SCHEMA_DIR = "api/schemas/";
+
+    private static final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the compiled schema, loading it on first use.
+     *
+     * @param name schema file name without extension, e.g. "register-success"
+     */
+    public static JsonSchema get(String name) {
+        ImpactTracer.touch(SCHEMA_DIR + name + ".json");
+        return schemas.computeIfAbsent(name, SchemaRegistry::load);
+    }
+
+    private static JsonSchema load(String name) {
+        String resource = SCHEMA_DIR + name + ".json";
+        try (InputStream in = SchemaRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + resource);
+            }
+            JsonNode schema = ApiJson.mapper().readTree(in);
+            return factory.getJsonSchema(schema);
+        } catch (IOException | ProcessingException e) {
+            throw new RuntimeException("Failed to load schema " + resource + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.skillboost.api_test.endpoints;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link UserEndpoints} on {@code java.net.http.HttpClient}.
+ *
+ * Intended for high-throughput scenarios (load runs, bulk provisioning) where REST Assured's
+ * synchronous, allocation-heavy request pipeline becomes the bottleneck. Requests prefer
+ * HTTP/2 and fall back to HTTP/1.1; all instances share one client and its connection pool.
+ * Bodies are (de)serialized with the shared {@link ApiJson} mapper into the same models,
+ * so responses can be checked with the existing assertion utilities.
+ */
+public class AsyncUserEndpoints {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final URI registerUri;
+
+    public AsyncUserEndpoints(String baseUrl) {
+        this.registerUri = URI.create(stripTrailingSlash(baseUrl) + "/auth/register");
+    }
+
+    /**
+     * Calls the Register endpoint without blocking the caller.
+     *
+     * @param request RegisterRequest object
+     * @return future completed with the mapped response (for any HTTP status)
+     */
+    public CompletableFuture<RegisterResponse> register(RegisterRequest request) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(registerUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(request)))
+                .build();
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> ApiJson.read(response.body(), RegisterResponse.class));
+    }
+
+    private static byte[] toJson(Object body) {
+        try {
+            return ApiJson.mapper().writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize request body", e);
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
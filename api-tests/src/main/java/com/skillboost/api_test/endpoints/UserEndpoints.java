@@ -0,0 +1,61 @@
+package com.skillboost.api_test.endpoints;
+
+
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.api_test.client.PooledHttpTransport;
+import com.skillboost.api_test.client.ThrottlingFilter;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * UserEndpoints contains all API calls related to the User service.
+ * Request templates are built once per instance and sent over the shared pooled transport.
+ * Throttled (429/503) requests are re-sent through {@link ThrottlingFilter#withRetries}.
+ */
+public class UserEndpoints {
+
+    private static final String REGISTER_PATH = "/auth/register";
+
+    private final String baseUrl;
+    private final RequestSpecification registerTemplate;
+
+    public UserEndpoints(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    /**
+     * @param baseUrl  API base URL
+     * @param baseSpec shared request specification (e.g. BaseTest.requestSpec), may be null
+     */
+    public UserEndpoints(String baseUrl, RequestSpecification baseSpec) {
+        this.baseUrl = baseUrl;
+        this.registerTemplate = PooledHttpTransport.template(baseUrl, REGISTER_PATH, baseSpec);
+    }
+
+    /**
+     * Calls the Register endpoint.
+     *
+     * @param request RegisterRequest object
+     * @return RegisterResponse mapped from the raw response bytes with the shared {@link ApiJson} mapper
+     */
+    public RegisterResponse register(RegisterRequest request) {
+        Response response = ThrottlingFilter.withRetries(() -> RestAssured
+                .given(registerTemplate)
+                .body(request)
+                .when()
+                .post()
+                .then()
+                .extract().response());
+
+        return ApiJson.read(response.asByteArray(), RegisterResponse.class);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // Future endpoints (Login, UpdateProfile, etc.) can be added here
+}
@@ -0,0 +1,41 @@
+package com.skillboost.api_test.latency;
+
+import com.skillboost.api_test.client.ThrottlingFilter;
+import com.skillboost.perf.baseline.PerfRecorder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Times each request for {@link EndpointTimings} and the {@link PerfRecorder} used by the
+ * regression gate. Installed on every endpoint template. Throttled (429/503) responses are not timed.
+ */
+public class EndpointTimingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsed = System.nanoTime() - start;
+        if (ThrottlingFilter.isThrottled(response.statusCode())) {
+            // Re-sent by ThrottlingFilter.withRetries; the answered attempt is the one that is timed
+            return response;
+        }
+        String endpoint = requestSpec.getMethod() + " " + URI.create(requestSpec.getURI()).getPath();
+        EndpointTimings.record(endpoint, elapsed);
+        PerfRecorder.record("api", endpoint, elapsed);
+        return response;
+    }
+
+    /** Inside the throttling filter, so permit waits are not counted as server latency. */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.skillboost.api_test.latency;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-thread recorder of endpoint round-trip times, filled by {@link EndpointTimingFilter}.
+ * Recording only happens between {@link #start()} and {@link #stop()} on the same thread,
+ * so calls made by other tests running in parallel are never mixed in.
+ */
+public final class EndpointTimings {
+
+    private static final ThreadLocal<List<Sample>> active = new ThreadLocal<>();
+
+    private EndpointTimings() {
+        // Prevent instantiation
+    }
+
+    /**
+     * One timed call.
+     */
+    public record Sample(String endpoint, long nanos) {
+    }
+
+    public static void start() {
+        active.set(new ArrayList<>());
+    }
+
+    /** Stops recording on this thread and returns the samples in call order. */
+    public static List<Sample> stop() {
+        List<Sample> samples = active.get();
+        active.remove();
+        return samples == null ? List.of() : samples;
+    }
+
+    static void record(String endpoint, long nanos) {
+        List<Sample> samples = active.get();
+        if (samples != null) {
+            samples.add(new Sample(endpoint, nanos));
+        }
+    }
+}
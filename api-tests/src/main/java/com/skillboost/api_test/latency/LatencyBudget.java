@@ -0,0 +1,44 @@
+package com.skillboost.api_test.latency;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Repeats a test and fails it when the endpoint latency percentiles exceed the budget.
+ * The annotation makes the method a test template (use it instead of {@code @Test}); every
+ * repetition runs as its own invocation, with the usual lifecycle callbacks.
+ *
+ * Every endpoint call made through the shared transport during the measured repetitions is timed
+ * (network round trip, excluding client-side throttling waits). Tests that make no endpoint calls
+ * are timed as a whole. Budgets are durations such as "800ms" or "1.5s"; empty means unchecked.
+ *
+ *   @LatencyBudget(p95 = "800ms", samples = 20)
+ *   void registerIsFast() { ... }
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@TestTemplate
+@ExtendWith(LatencyBudgetExtension.class)
+public @interface LatencyBudget {
+
+    String p50() default "";
+
+    String p95() default "";
+
+    String p99() default "";
+
+    String max() default "";
+
+    /** Measured repetitions of the test method. */
+    int samples() default 20;
+
+    /** Unmeasured repetitions run first (connection setup, JIT, server caches). */
+    int warmup() default 2;
+}
@@ -0,0 +1,251 @@
+package com.skillboost.api_test.latency;
+
+import io.qameta.allure.Allure;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.opentest4j.TestAbortedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Expands a {@link LatencyBudget} test into warmup + samples invocations, like {@code @RepeatedTest}:
+ * each one is a full test execution with the test instance lifecycle, {@code @BeforeEach}/{@code @AfterEach}
+ * and every other extension. The endpoint timings of the measured invocations are collected; the last
+ * one attaches the distribution to Allure and fails when a budget is exceeded.
+ * A functional failure fails its invocation and skips the remaining ones. An aborted invocation
+ * (e.g. an assumption on a throttled 429/503 answer) is not counted as a sample.
+ */
+public class LatencyBudgetExtension implements TestTemplateInvocationContextProvider {
+
+    private static final Pattern DURATION = Pattern.compile("^\\s*(\\d+(?:\\.\\d+)?)\\s*(ms|s)\\s*$");
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().map(method -> method.isAnnotationPresent(LatencyBudget.class)).orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        LatencyBudget budget = context.getRequiredTestMethod().getAnnotation(LatencyBudget.class);
+        if (budget.samples() < 1 || budget.warmup() < 0) {
+            throw new IllegalArgumentException("@LatencyBudget needs samples >= 1 and warmup >= 0");
+        }
+        for (String limit : new String[]{budget.p50(), budget.p95(), budget.p99(), budget.max()}) {
+            if (!limit.isBlank()) {
+                parseMicros(limit); // fail fast on a malformed budget, before any request is sent
+            }
+        }
+
+        Run run = new Run(budget, context.getDisplayName());
+        int total = budget.warmup() + budget.samples();
+        return IntStream.range(0, total).mapToObj(index -> new Repetition(run, index));
+    }
+
+    /**
+     * State shared by the invocations of one latency-budget test.
+     */
+    private static final class Run {
+        private final LatencyBudget budget;
+        private final String testName;
+        private final List<EndpointTimings.Sample> samples = new ArrayList<>();
+        private volatile boolean failed;
+
+        private Run(LatencyBudget budget, String testName) {
+            this.budget = budget;
+            this.testName = testName;
+        }
+    }
+
+    /**
+     * One warmup or measured invocation; times the test method itself, without the callbacks around it.
+     */
+    private static final class Repetition implements TestTemplateInvocationContext,
+            ExecutionCondition, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+        private final Run run;
+        private final int index;
+        private long start;
+
+        private Repetition(Run run, int index) {
+            this.run = run;
+            this.index = index;
+        }
+
+        private boolean warmup() {
+            return index < run.budget.warmup();
+        }
+
+        private boolean last() {
+            return index == run.budget.warmup() + run.budget.samples() - 1;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return warmup()
+                    ? "warmup " + (index + 1) + "/" + run.budget.warmup()
+                    : "sample " + (index - run.budget.warmup() + 1) + "/" + run.budget.samples();
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(this);
+        }
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            return run.failed
+                    ? ConditionEvaluationResult.disabled("An earlier repetition failed")
+                    : ConditionEvaluationResult.enabled("No repetition failed");
+        }
+
+        @Override
+        public void beforeTestExecution(ExtensionContext context) {
+            EndpointTimings.start();
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void afterTestExecution(ExtensionContext context) {
+            long elapsed = System.nanoTime() - start;
+            List<EndpointTimings.Sample> calls = EndpointTimings.stop();
+            Optional<Throwable> error = context.getExecutionException();
+            if (error.isPresent() && !(error.get() instanceof TestAbortedException)) {
+                run.failed = true;
+                return;
+            }
+            if (!warmup() && error.isEmpty()) {
+                run.samples.addAll(calls.isEmpty() ? List.of(new EndpointTimings.Sample("test method", elapsed)) : calls);
+            }
+            if (last()) {
+                evaluate(run);
+            }
+        }
+    }
+
+    private static void evaluate(Run run) {
+        if (run.samples.isEmpty()) {
+            throw new AssertionError("No latency sample: every measured repetition was aborted");
+        }
+        String report = report(run.testName, run.budget, run.samples);
+        Allure.addAttachment("Latency distribution", "text/plain", report, ".txt");
+
+        List<String> violations = check(run.budget, histogram(run.samples));
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Latency budget exceeded: " + String.join(", ", violations) + "\n" + report);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Evaluation
+    // ─────────────────────────────────────────────
+
+    private static List<String> check(LatencyBudget budget, Histogram histogram) {
+        List<String> violations = new ArrayList<>();
+        checkLimit(violations, "p50", budget.p50(), histogram.getValueAtPercentile(50));
+        checkLimit(violations, "p95", budget.p95(), histogram.getValueAtPercentile(95));
+        checkLimit(violations, "p99", budget.p99(), histogram.getValueAtPercentile(99));
+        checkLimit(violations, "max", budget.max(), histogram.getMaxValue());
+        return violations;
+    }
+
+    private static void checkLimit(List<String> violations, String name, String limit, long actualMicros) {
+        if (limit.isBlank()) {
+            return;
+        }
+        long limitMicros = parseMicros(limit);
+        if (actualMicros > limitMicros) {
+            violations.add(String.format(Locale.ROOT, "%s %s > %s", name, format(actualMicros), limit.trim()));
+        }
+    }
+
+    /**
+     * Parses "800ms" or "1.5s" into microseconds.
+     */
+    static long parseMicros(String duration) {
+        Matcher matcher = DURATION.matcher(duration);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid latency budget '" + duration + "', expected e.g. \"800ms\" or \"1.5s\"");
+        }
+        double value = Double.parseDouble(matcher.group(1));
+        return (long) ("s".equals(matcher.group(2)) ? value * 1_000_000 : value * 1_000);
+    }
+
+    private static Histogram histogram(List<EndpointTimings.Sample> samples) {
+        Histogram histogram = new Histogram(3);
+        for (EndpointTimings.Sample sample : samples) {
+            histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(sample.nanos())));
+        }
+        return histogram;
+    }
+
+    // ─────────────────────────────────────────────
+    // Report
+    // ─────────────────────────────────────────────
+
+    private static String report(String testName, LatencyBudget budget, List<EndpointTimings.Sample> samples) {
+        Map<String, List<EndpointTimings.Sample>> byEndpoint = new LinkedHashMap<>();
+        for (EndpointTimings.Sample sample : samples) {
+            byEndpoint.computeIfAbsent(sample.endpoint(), key -> new ArrayList<>()).add(sample);
+        }
+
+        StringBuilder text = new StringBuilder()
+                .append(testName).append(" — ").append(budget.samples()).append(" samples after ")
+                .append(budget.warmup()).append(" warmup runs\n")
+                .append("Budget: ").append(describe(budget)).append("\n\n")
+                .append(String.format(Locale.ROOT, "%-40s %6s %10s %10s %10s %10s %10s%n",
+                        "Endpoint", "Calls", "min", "p50", "p95", "p99", "max"));
+        byEndpoint.forEach((endpoint, calls) -> appendRow(text, endpoint, histogram(calls)));
+        if (byEndpoint.size() > 1) {
+            appendRow(text, "all", histogram(samples));
+        }
+
+        text.append("\nDistribution (all calls):\n");
+        Histogram all = histogram(samples);
+        for (double percentile : new double[]{10, 25, 50, 75, 90, 95, 99, 99.9, 100}) {
+            text.append(String.format(Locale.ROOT, "  p%-5s %10s%n",
+                    percentile == (long) percentile ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                    format(all.getValueAtPercentile(percentile))));
+        }
+        return text.toString();
+    }
+
+    private static void appendRow(StringBuilder text, String endpoint, Histogram histogram) {
+        text.append(String.format(Locale.ROOT, "%-40s %6d %10s %10s %10s %10s %10s%n",
+                endpoint, histogram.getTotalCount(),
+                format(histogram.getMinValue()),
+                format(histogram.getValueAtPercentile(50)),
+                format(histogram.getValueAtPercentile(95)),
+                format(histogram.getValueAtPercentile(99)),
+                format(histogram.getMaxValue())));
+    }
+
+    private static String describe(LatencyBudget budget) {
+        List<String> limits = new ArrayList<>();
+        if (!budget.p50().isBlank()) limits.add("p50 ≤ " + budget.p50().trim());
+        if (!budget.p95().isBlank()) limits.add("p95 ≤ " + budget.p95().trim());
+        if (!budget.p99().isBlank()) limits.add("p99 ≤ " + budget.p99().trim());
+        if (!budget.max().isBlank()) limits.add("max ≤ " + budget.max().trim());
+        return limits.isEmpty() ? "none (report only)" : String.join(", ", limits);
+    }
+
+    private static String format(long micros) {
+        return String.format(Locale.ROOT, "%.1fms", micros / 1000.0);
+    }
+}
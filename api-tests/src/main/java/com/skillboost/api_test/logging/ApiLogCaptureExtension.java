@@ -0,0 +1,38 @@
+package com.skillboost.api_test.logging;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * Captures the HTTP exchanges of each test and attaches them to Allure only when the test fails.
+ * Passing tests cost nothing beyond keeping references in {@link SampledLoggingFilter}'s buffer.
+ */
+public class ApiLogCaptureExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SampledLoggingFilter.startCapture();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<CapturedExchange> exchanges = SampledLoggingFilter.stopCapture();
+        if (context.getExecutionException().isEmpty() || exchanges.isEmpty()) {
+            return;
+        }
+
+        int maxBodyChars = SampledLoggingFilter.getMaxBodyChars();
+        for (int i = 0; i < exchanges.size(); i++) {
+            CapturedExchange exchange = exchanges.get(i);
+            Allure.addAttachment(
+                    "HTTP " + (i + 1) + ": " + exchange.method() + " " + exchange.statusCode(),
+                    "text/plain",
+                    exchange.format(maxBodyChars),
+                    ".txt");
+        }
+    }
+}
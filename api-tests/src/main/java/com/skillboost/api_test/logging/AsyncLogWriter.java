@@ -0,0 +1,77 @@
+package com.skillboost.api_test.logging;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prints log entries on a single daemon thread so request threads never block on stdout.
+ *
+ * The queue is bounded: when the writer falls behind, new entries are dropped and counted
+ * instead of slowing the tests down. The drop count is reported with the next written entry.
+ */
+public final class AsyncLogWriter {
+
+    private final BlockingQueue<String> queue;
+    private final PrintStream out;
+    private final LongAdder dropped = new LongAdder();
+
+    public AsyncLogWriter(int capacity, PrintStream out) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+
+        Thread writer = new Thread(this::drain, "api-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toMillis(2)), "api-log-flush"));
+    }
+
+    /**
+     * Queues an entry without blocking.
+     *
+     * @return false if the queue was full and the entry was dropped
+     */
+    public boolean offer(String entry) {
+        if (queue.offer(entry)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** Waits up to {@code timeoutMillis} for the queue to drain (used on shutdown and in tests). */
+    public void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!queue.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                String entry = queue.take();
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    out.println("⚠️ API log queue full, dropped " + (drops - reportedDrops) + " entries");
+                    reportedDrops = drops;
+                }
+                out.println(entry);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
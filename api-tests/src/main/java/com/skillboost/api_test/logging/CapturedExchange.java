@@ -0,0 +1,62 @@
+package com.skillboost.api_test.logging;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One request/response pair seen by {@link SampledLoggingFilter}.
+ *
+ * Only references are kept at capture time; the text is rendered (and bodies truncated)
+ * when the exchange is actually written to the log or attached to a failed test.
+ */
+public record CapturedExchange(String method,
+                               String uri,
+                               Headers requestHeaders,
+                               Object requestBody,
+                               int statusCode,
+                               String statusLine,
+                               Headers responseHeaders,
+                               byte[] responseBody,
+                               long durationMillis) {
+
+    private static final String TRUNCATED = "… [truncated ";
+
+    /**
+     * Renders the exchange as plain text with both bodies cut to {@code maxBodyChars}.
+     */
+    public String format(int maxBodyChars) {
+        StringBuilder text = new StringBuilder(512)
+                .append(method).append(' ').append(uri).append('\n');
+        appendHeaders(text, requestHeaders);
+        appendBody(text, requestBody == null ? null : String.valueOf(requestBody), maxBodyChars);
+
+        text.append("\n← ").append(statusLine == null ? String.valueOf(statusCode) : statusLine)
+                .append(" (").append(durationMillis).append(" ms)\n");
+        appendHeaders(text, responseHeaders);
+        appendBody(text, responseBody == null ? null : new String(responseBody, StandardCharsets.UTF_8), maxBodyChars);
+        return text.toString();
+    }
+
+    private static void appendHeaders(StringBuilder text, Headers headers) {
+        if (headers == null) {
+            return;
+        }
+        for (Header header : headers) {
+            text.append("  ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+    }
+
+    static void appendBody(StringBuilder text, String body, int maxBodyChars) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        if (body.length() <= maxBodyChars) {
+            text.append(body).append('\n');
+        } else {
+            text.append(body, 0, maxBodyChars)
+                    .append(TRUNCATED).append(body.length() - maxBodyChars).append(" chars]\n");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.skillboost.api_test.logging;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replacement for REST Assured's Request/ResponseLoggingFilter pair.
+ *
+ * - Every exchange is kept (by reference, not rendered) in a small per-thread buffer while a test
+ *   is being captured; {@link ApiLogCaptureExtension} attaches that buffer to Allure only if the test fails.
+ * - Only a sample of exchanges is printed: server errors (5xx) always, everything else with
+ *   probability {@code api.log.sampleRate}. Printing happens on {@link AsyncLogWriter}'s thread.
+ * - Bodies are truncated to {@code api.log.maxBodyChars} wherever they are rendered.
+ *
+ * Settings (system properties): api.log.sampleRate (0.0-1.0, default 0.05),
+ * api.log.maxBodyChars (default 2000), api.log.queueCapacity (default 1000),
+ * api.log.captureLimit (exchanges kept per test, default 50).
+ */
+public class SampledLoggingFilter implements OrderedFilter {
+
+    private static final int MAX_BODY_CHARS = Integer.getInteger("api.log.maxBodyChars", 2000);
+    private static final int CAPTURE_LIMIT = Integer.getInteger("api.log.captureLimit", 50);
+
+    private static final AsyncLogWriter writer =
+            new AsyncLogWriter(Integer.getInteger("api.log.queueCapacity", 1000), System.out);
+
+    private static final ThreadLocal<Deque<CapturedExchange>> capture = new ThreadLocal<>();
+
+    private static volatile double sampleRate =
+            Double.parseDouble(System.getProperty("api.log.sampleRate", "0.05"));
+
+    // ─────────────────────────────────────────────
+    // Settings and per-test capture
+    // ─────────────────────────────────────────────
+
+    /**
+     * Changes the share of successful exchanges printed to the console (0 disables printing;
+     * failed-test attachments are unaffected).
+     */
+    public static void setSampleRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+        }
+        sampleRate = rate;
+    }
+
+    public static double getSampleRate() {
+        return sampleRate;
+    }
+
+    public static int getMaxBodyChars() {
+        return MAX_BODY_CHARS;
+    }
+
+    public static AsyncLogWriter writer() {
+        return writer;
+    }
+
+    /** Starts buffering exchanges made on the current thread. */
+    public static void startCapture() {
+        capture.set(new ArrayDeque<>());
+    }
+
+    /** Stops buffering on the current thread and returns what was captured (oldest first). */
+    public static List<CapturedExchange> stopCapture() {
+        Deque<CapturedExchange> buffer = capture.get();
+        capture.remove();
+        return buffer == null ? List.of() : new ArrayList<>(buffer);
+    }
+
+    // ─────────────────────────────────────────────
+    // Filter
+    // ─────────────────────────────────────────────
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Deque<CapturedExchange> buffer = capture.get();
+        boolean sampled = response.statusCode() >= 500
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (buffer == null && !sampled) {
+            return response;
+        }
+
+        CapturedExchange exchange = new CapturedExchange(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                requestSpec.getHeaders(),
+                requestSpec.getBody(),
+                response.statusCode(),
+                response.statusLine(),
+                response.headers(),
+                response.asByteArray(),
+                durationMillis);
+
+        if (buffer != null) {
+            if (buffer.size() == CAPTURE_LIMIT) {
+                buffer.removeFirst();
+            }
+            buffer.addLast(exchange);
+        }
+        if (sampled) {
+            writer.offer(exchange.format(MAX_BODY_CHARS));
+        }
+        return response;
+    }
+
+    /** Runs closest to the wire so the logged request is the one actually sent. */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,277 @@
+package com.skillboost.api_test.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.api_test.client.ApiJson;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.ErrorItem;
+import com.skillboost.api_test.models.user.response.Metadata;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.models.user.response.UserData;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded, in-process stub of the SkillBoost auth API built on the JDK HttpServer.
+ *
+ * Reproduces the response shapes of {@link RegisterResponse} for /auth/register:
+ *   201 success           - success=true, data (UserData), metadata
+ *   400 validation error  - status, message, errors (ErrorItem list)
+ *   409 conflict          - status, message "Email already exists", detail, instance
+ * plus injected 429/503 responses and latency as configured in {@link StubConfig}.
+ *
+ * Further auth endpoints are added by registering another handler in {@link #routes()}.
+ */
+public final class AuthStubServer implements AutoCloseable {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    private static final ObjectMapper mapper = ApiJson.mapper();
+
+    private static volatile AuthStubServer shared;
+
+    private final StubConfig config;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<String> registeredEmails = ConcurrentHashMap.newKeySet();
+    private final LongAdder requests = new LongAdder();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private AuthStubServer(StubConfig config) throws IOException {
+        this.config = config;
+        this.registeredEmails.addAll(config.getSeedEmails().stream().map(email -> email.toLowerCase(Locale.ROOT)).toList());
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getPort()), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        routes();
+    }
+
+    /**
+     * Starts a new stub server. Use port 0 in the config for an ephemeral port.
+     */
+    public static AuthStubServer start(StubConfig config) {
+        try {
+            AuthStubServer stub = new AuthStubServer(config);
+            stub.server.start();
+            System.out.println("🧪 Auth stub server started at " + stub.getBaseUrl());
+            return stub;
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to start auth stub server on port " + config.getPort(), e);
+        }
+    }
+
+    /**
+     * Returns the JVM-wide stub, starting it on first use. It is stopped by a shutdown hook.
+     */
+    public static AuthStubServer shared(StubConfig config) {
+        AuthStubServer stub = shared;
+        if (stub == null) {
+            synchronized (AuthStubServer.class) {
+                stub = shared;
+                if (stub == null) {
+                    stub = start(config);
+                    Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "auth-stub-shutdown"));
+                    shared = stub;
+                }
+            }
+        }
+        return stub;
+    }
+
+    /**
+     * Stops the shared stub if it was started. Safe to call more than once.
+     */
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + config.getBasePath();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ─────────────────────────────────────────────
+    // Routes
+    // ─────────────────────────────────────────────
+    private void routes() {
+        server.createContext(config.getBasePath() + "/auth/register", post(this::register));
+    }
+
+    private HttpHandler post(Route route) {
+        return exchange -> {
+            requests.increment();
+            try (exchange) {
+                if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                    send(exchange, 405, error(405, "Method Not Allowed", exchange));
+                    return;
+                }
+                simulateLatency();
+
+                double roll = ThreadLocalRandom.current().nextDouble();
+                if (roll < config.getThrottleRate()) {
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                    send(exchange, 429, error(429, "Too Many Requests", exchange));
+                    return;
+                }
+                if (roll < config.getThrottleRate() + config.getErrorRate()) {
+                    send(exchange, 503, error(503, "Service Unavailable", exchange));
+                    return;
+                }
+                route.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private void register(HttpExchange exchange) throws IOException {
+        RegisterRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = mapper.readValue(body, RegisterRequest.class);
+        } catch (IOException e) {
+            send(exchange, 400, error(400, "Malformed JSON request", exchange));
+            return;
+        }
+        if (request == null) {
+            // A literal null body parses fine but carries no request
+            send(exchange, 400, error(400, "Request body must be a JSON object", exchange));
+            return;
+        }
+
+        List<ErrorItem> errors = validate(request);
+        if (!errors.isEmpty()) {
+            RegisterResponse response = error(400, "Validation failed", exchange);
+            response.setErrors(errors);
+            send(exchange, 400, response);
+            return;
+        }
+
+        if (!registeredEmails.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+            RegisterResponse response = error(409, "Email already exists", exchange);
+            response.setDetail("An account with email " + request.getEmail() + " is already registered");
+            send(exchange, 409, response);
+            return;
+        }
+
+        UserData user = new UserData();
+        user.setId(UUID.randomUUID().toString());
+        user.setEmail(request.getEmail());
+        user.setUsername(request.getEmail().substring(0, request.getEmail().indexOf('@')));
+        user.setRole("USER");
+        user.setState("ACTIVE");
+        user.setTourStatus("PENDING");
+        user.setVerified(false);
+        user.setPremiumTier("FREE");
+        user.setLanguage("en");
+        user.setTimezone("UTC");
+
+        RegisterResponse response = new RegisterResponse();
+        response.setSuccess(true);
+        response.setMessage("User registered successfully");
+        response.setData(user);
+        response.setMetadata(metadata());
+        send(exchange, 201, response);
+    }
+
+    private static List<ErrorItem> validate(RegisterRequest request) {
+        List<ErrorItem> errors = new ArrayList<>();
+        String email = request.getEmail();
+        String password = request.getPassword();
+
+        if (email == null || email.isBlank()) {
+            errors.add(errorItem("email", "Email is required"));
+        } else if (!EMAIL.matcher(email).matches()) {
+            errors.add(errorItem("email", "Email must be a valid email address"));
+        }
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            errors.add(errorItem("password", "Password must be at least " + MIN_PASSWORD_LENGTH + " characters"));
+        }
+        return errors;
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+    private void simulateLatency() throws InterruptedException {
+        long delay = config.getLatencyMs();
+        if (config.getLatencyJitterMs() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(config.getLatencyJitterMs() + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private static RegisterResponse error(int status, String message, HttpExchange exchange) {
+        RegisterResponse response = new RegisterResponse();
+        response.setSuccess(false);
+        response.setStatus(status);
+        response.setMessage(message);
+        response.setInstance(exchange.getRequestURI().getPath());
+        response.setMetadata(metadata());
+        return response;
+    }
+
+    private static ErrorItem errorItem(String field, String message) {
+        ErrorItem item = new ErrorItem();
+        item.setField(field);
+        item.setMessage(message);
+        return item;
+    }
+
+    private static Metadata metadata() {
+        Metadata metadata = new Metadata();
+        metadata.setTraceId(UUID.randomUUID().toString());
+        metadata.setTimestamp(Instant.now().toString());
+        return metadata;
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
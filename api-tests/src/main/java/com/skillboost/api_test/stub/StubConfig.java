@@ -0,0 +1,86 @@
+package com.skillboost.api_test.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Behavior of the embedded {@link AuthStubServer}.
+ *
+ * Latency is {@code latencyMs} plus a uniformly random jitter in [0, latencyJitterMs].
+ * {@code errorRate} and {@code throttleRate} are probabilities (0.0 - 1.0) of answering a
+ * request with 503 Service Unavailable or 429 Too Many Requests respectively.
+ */
+public final class StubConfig {
+
+    private int port;
+    private String basePath = "/api/v1";
+    private long latencyMs;
+    private long latencyJitterMs;
+    private double errorRate;
+    private double throttleRate;
+    private final List<String> seedEmails = new ArrayList<>();
+
+    public static StubConfig defaults() {
+        return new StubConfig();
+    }
+
+    public StubConfig port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public StubConfig basePath(String basePath) {
+        this.basePath = basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath;
+        return this;
+    }
+
+    public StubConfig latency(long latencyMs, long jitterMs) {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = jitterMs;
+        return this;
+    }
+
+    public StubConfig errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public StubConfig throttleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+        return this;
+    }
+
+    /** Emails treated as already registered (answered with 409 Conflict). */
+    public StubConfig seedEmails(List<String> emails) {
+        seedEmails.addAll(emails);
+        return this;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getBasePath() {
+        return basePath;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public long getLatencyJitterMs() {
+        return latencyJitterMs;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getThrottleRate() {
+        return throttleRate;
+    }
+
+    public List<String> getSeedEmails() {
+        return List.copyOf(seedEmails);
+    }
+}
@@ -0,0 +1,24 @@
+package com.skillboost.api_test.utils;
+
+import com.skillboost.common.impact.AppUnderTest;
+
+/**
+ * The API the suite calls: the base URL of the active environment in api-config.json.
+ * Registered in META-INF/services for {@link com.skillboost.common.impact.TestResultCache}.
+ */
+public class ApiAppUnderTest implements AppUnderTest {
+
+    @Override
+    public String baseUrl() {
+        return ApiConfig.getBaseUrl();
+    }
+
+    /**
+     * The embedded stub is built from this repository, so its bytecode is already part of every
+     * fingerprint; fetching a page from it would only start it early.
+     */
+    @Override
+    public String version() {
+        return ApiConfig.isStub() ? "stub" : AppUnderTest.super.version();
+    }
+}
@@ -0,0 +1,101 @@
+package com.skillboost.api_test.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ApiConfig loads environment-specific settings for the API suites.
+ *
+ * Reads from: api/config/api-config.json on the classpath (src/main/resources of api-tests)
+ * The environment is selected with -Dapi.environment (default: "activeEnvironment" in the file).
+ * An environment with "stub": true runs against the embedded {@link AuthStubServer}
+ * instead of a remote base URL, so API and load tests can run offline.
+ */
+public final class ApiConfig {
+
+    private static final String CONFIG_RESOURCE = "api/config/api-config.json";
+
+    private static JsonNode configRoot;
+    private static JsonNode activeEnv;
+    private static String environment;
+
+    static {
+        loadConfig();
+    }
+
+    private ApiConfig() {
+    }
+
+    private static void loadConfig() {
+        try {
+            try (InputStream in = ApiConfig.class.getClassLoader().getResourceAsStream(CONFIG_RESOURCE)) {
+                if (in == null) {
+                    throw new IOException("Config file not found on the classpath: " + CONFIG_RESOURCE);
+                }
+                configRoot = new ObjectMapper().readTree(in);
+            }
+            environment = Optional.ofNullable(System.getProperty("api.environment"))
+                    .orElse(configRoot.path("activeEnvironment").asText("dev"));
+
+            JsonNode envNode = configRoot.path("environments").path(environment);
+            if (envNode.isMissingNode() || envNode.isEmpty()) {
+                throw new RuntimeException("❌ Environment '" + environment + "' not found in api-config.json");
+            }
+            activeEnv = envNode;
+
+            System.out.println("✅ API config loaded (environment = " + environment + ")");
+
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to load api-config.json → " + e.getMessage(), e);
+        }
+    }
+
+    public static String getEnvironment() {
+        return environment;
+    }
+
+    public static boolean isStub() {
+        return activeEnv.path("stub").asBoolean(false);
+    }
+
+    /**
+     * Base URL of the API under test. In stub mode this starts the shared embedded stub on first use.
+     */
+    public static String getBaseUrl() {
+        if (isStub()) {
+            return AuthStubServer.shared(getStubConfig()).getBaseUrl();
+        }
+        return Optional.ofNullable(System.getProperty("api.baseUrl"))
+                .orElse(activeEnv.path("baseUrl").asText());
+    }
+
+    /**
+     * Stub behavior of the active environment; system properties api.stub.* override the file.
+     */
+    public static StubConfig getStubConfig() {
+        List<String> seedEmails = new ArrayList<>();
+        activeEnv.path("seedEmails").forEach(email -> seedEmails.add(email.asText()));
+
+        return StubConfig.defaults()
+                .port(Integer.getInteger("api.stub.port", activeEnv.path("port").asInt(0)))
+                .basePath(activeEnv.path("basePath").asText("/api/v1"))
+                .latency(Long.getLong("api.stub.latencyMs", activeEnv.path("latencyMs").asLong(0)),
+                        Long.getLong("api.stub.latencyJitterMs", activeEnv.path("latencyJitterMs").asLong(0)))
+                .errorRate(doubleProperty("api.stub.errorRate", activeEnv.path("errorRate").asDouble(0)))
+                .throttleRate(doubleProperty("api.stub.throttleRate", activeEnv.path("throttleRate").asDouble(0)))
+                .seedEmails(seedEmails);
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
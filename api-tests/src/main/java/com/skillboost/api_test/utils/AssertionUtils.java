@@ -3,6 +3,8 @@ package com.skillboost.api_test.utils;
 
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
+import com.skillboost.api_test.contract.ContractValidator;
+import com.skillboost.api_test.logging.SampledLoggingFilter;
 import com.skillboost.api_test.models.user.response.ErrorItem;
 
 /**
@@ -52,11 +54,23 @@ public class AssertionUtils {
         assertTrue(found, "Expected error field not found: " + field);
     }
 
+    /**
+     * Asserts that a raw response body matches a schema from api/schemas on the classpath.
+     *
+     * @param body       response body bytes
+     * @param schemaName schema file name without extension, e.g. "register-success"
+     */
+    public static void assertMatchesSchema(byte[] body, String schemaName) {
+        ContractValidator.assertValid(body, schemaName);
+    }
+
     /**
      * Suppresses verbose REST Assured logs in the terminal.
      * Call this method before executing the request if you want minimal output.
+     * Server errors are still printed and failed tests still get their exchanges attached.
      */
     public static void suppressLogs() {
+        SampledLoggingFilter.setSampleRate(0);
         System.setProperty("org.apache.commons.logging.Log", "org.apache.commons.logging.impl.NoOpLog");
     }
 }
@@ -1,8 +1,12 @@
 package com.skillboost.api_test.utils;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.common.impact.ImpactTracer;
+import com.skillboost.common.testdata.CompiledTestData;
 import java.io.File;
 import java.io.IOException;
+import java.util.Optional;
 
 public class JsonUtils {
 
@@ -10,6 +14,7 @@ public class JsonUtils {
 
     /**
      * Reads a JSON file and maps it to the given class type.
+     * Test data files are served from the compiled artifact when it is up to date.
      *
      * @param filePath path to the JSON file relative to project root
      * @param clazz    class type to map JSON to
@@ -17,7 +22,13 @@ public class JsonUtils {
      * @return mapped object
      */
     public static <T> T fromJsonFile(String filePath, Class<T> clazz) {
+        ImpactTracer.touch(filePath);
         try {
+            Optional<JsonNode> compiled = CompiledTestData.file(CompiledTestData.keyFor(filePath));
+            if (compiled.isPresent()) {
+                return objectMapper.treeToValue(compiled.get(), clazz);
+            }
+
             File file = new File(filePath);
             if (!file.exists()) {
                 throw new RuntimeException("JSON file not found: " + filePath);
@@ -0,0 +1,146 @@
+package com.skillboost.api_test.vcr;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recorded interactions of one endpoint, stored as a Smile file and indexed in memory by {@link RequestKey}.
+ *
+ * A key can have several recorded responses (e.g. register the same email twice: 201, then 409);
+ * replay hands them out in recording order and keeps repeating the last one. Generated emails are
+ * masked, so many tests share a key: each interaction remembers the test that recorded it, and a
+ * test replays its own recordings with its own position, whatever order tests run in.
+ *
+ * Parallel surefire forks record into the same file; {@link #save()} merges this JVM's new
+ * interactions into the file under a file lock instead of overwriting the other forks' work.
+ */
+public final class Cassette {
+
+    private static final SmileMapper smileMapper = new SmileMapper();
+
+    private final Path file;
+    private final Map<String, List<Interaction>> interactions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final List<Interaction> unsaved = new ArrayList<>();
+
+    /**
+     * One recorded exchange. The body has generated emails replaced by placeholders; test is the
+     * unique id of the recording test, null when recorded outside a test (or by older cassettes).
+     */
+    public record Interaction(String key, String test, String request, int status, String statusLine,
+                              Map<String, String> headers, String body) {
+    }
+
+    private Cassette(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens a cassette, loading its interactions when the file exists.
+     */
+    public static Cassette open(Path file) {
+        Cassette cassette = new Cassette(file);
+        try {
+            for (Interaction interaction : read(file)) {
+                cassette.interactions.computeIfAbsent(interaction.key(), key -> new ArrayList<>()).add(interaction);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read cassette " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+        return cassette;
+    }
+
+    private static List<Interaction> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        return smileMapper.readValue(file.toFile(), new TypeReference<List<Interaction>>() {});
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int size() {
+        return interactions.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Next recorded response for the key in the given test, if any. Uses the test's own recordings
+     * when it has any, otherwise every recording of the key; the position is counted per test.
+     */
+    public Optional<Interaction> next(RequestKey key, String test) {
+        List<Interaction> recorded = interactions.get(key.hash());
+        if (recorded == null || recorded.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Interaction> candidates;
+        synchronized (recorded) {
+            List<Interaction> own = recorded.stream().filter(i -> test != null && test.equals(i.test())).toList();
+            candidates = own.isEmpty() ? List.copyOf(recorded) : own;
+        }
+        int position = cursors.computeIfAbsent(test + "|" + key.hash(), k -> new AtomicInteger()).getAndIncrement();
+        return Optional.of(candidates.get(Math.min(position, candidates.size() - 1)));
+    }
+
+    /**
+     * Drops the replay positions of a finished test, so that a re-run starts from its first recording.
+     */
+    public void finishTest(String test) {
+        cursors.keySet().removeIf(cursor -> cursor.startsWith(test + "|"));
+    }
+
+    public void record(Interaction interaction) {
+        List<Interaction> recorded = interactions.computeIfAbsent(interaction.key(), key -> new ArrayList<>());
+        synchronized (recorded) {
+            recorded.add(interaction);
+        }
+        synchronized (unsaved) {
+            unsaved.add(interaction);
+        }
+    }
+
+    /**
+     * Appends the interactions recorded since the last save to the file, re-reading it under a
+     * file lock so that recordings saved meanwhile by other forks are kept.
+     */
+    public void save() {
+        List<Interaction> recorded;
+        synchronized (unsaved) {
+            if (unsaved.isEmpty()) {
+                return;
+            }
+            recorded = List.copyOf(unsaved);
+            unsaved.clear();
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                List<Interaction> all = read(file);
+                all.addAll(recorded);
+                Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                smileMapper.writeValue(temp.toFile(), all);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                System.out.println("📼 Cassette saved: " + recorded.size() + " new, " + all.size() + " interactions → " + file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to write cassette " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.skillboost.api_test.vcr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skillboost.common.accounts.TestAccountFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * Normalized identity of a request, used to look up recorded interactions.
+ *
+ * Normalization removes what legitimately differs between runs:
+ *   - host and port (recordings made against dev replay against any base URL)
+ *   - query parameter order and JSON body key order / whitespace
+ *   - generated test emails (see {@link TestAccountFactory#GENERATED_EMAIL}), which become
+ *     positional placeholders so that a fresh account matches the recording of an earlier one
+ */
+public final class RequestKey {
+
+    static final String PLACEHOLDER_PREFIX = "{{generated-email-";
+
+    private static final ObjectMapper canonicalMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final String hash;
+    private final String description;
+    private final List<String> generatedEmails;
+
+    private RequestKey(String hash, String description, List<String> generatedEmails) {
+        this.hash = hash;
+        this.description = description;
+        this.generatedEmails = generatedEmails;
+    }
+
+    public static RequestKey of(String method, String uri, Object body) {
+        URI parsed = URI.create(uri);
+        String query = parsed.getRawQuery() == null ? "" : sortedQuery(parsed.getRawQuery());
+
+        List<String> generatedEmails = new ArrayList<>();
+        String normalizedBody = maskGeneratedEmails(canonicalBody(body), generatedEmails);
+
+        String canonical = method.toUpperCase() + " " + parsed.getRawPath() + (query.isEmpty() ? "" : "?" + query)
+                + "\n" + normalizedBody;
+        return new RequestKey(sha256(canonical), method.toUpperCase() + " " + parsed.getRawPath(), generatedEmails);
+    }
+
+    public String hash() {
+        return hash;
+    }
+
+    /** Short human-readable form for error messages, e.g. "POST /api/v1/auth/register". */
+    public String description() {
+        return description;
+    }
+
+    /** Replaces this request's generated emails in a response body with placeholders (for recording). */
+    public String mask(String responseBody) {
+        String masked = responseBody;
+        for (int i = 0; i < generatedEmails.size(); i++) {
+            masked = masked.replace(generatedEmails.get(i), PLACEHOLDER_PREFIX + i + "}}");
+        }
+        return masked;
+    }
+
+    /** Puts this request's generated emails back into a recorded response body (for replay). */
+    public String unmask(String recordedBody) {
+        String body = recordedBody;
+        for (int i = 0; i < generatedEmails.size(); i++) {
+            body = body.replace(PLACEHOLDER_PREFIX + i + "}}", generatedEmails.get(i));
+        }
+        return body;
+    }
+
+    private static String canonicalBody(Object body) {
+        if (body == null) {
+            return "";
+        }
+        String text = body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(body);
+        try {
+            JsonNode tree = canonicalMapper.readTree(text);
+            return tree == null ? text : canonicalMapper.writeValueAsString(canonicalMapper.treeToValue(tree, Object.class));
+        } catch (IOException notJson) {
+            return text;
+        }
+    }
+
+    private static String maskGeneratedEmails(String text, List<String> found) {
+        Matcher matcher = TestAccountFactory.GENERATED_EMAIL.matcher(text);
+        StringBuilder masked = new StringBuilder();
+        while (matcher.find()) {
+            int index = found.indexOf(matcher.group());
+            if (index < 0) {
+                index = found.size();
+                found.add(matcher.group());
+            }
+            matcher.appendReplacement(masked, Matcher.quoteReplacement(PLACEHOLDER_PREFIX + index + "}}"));
+        }
+        return matcher.appendTail(masked).toString();
+    }
+
+    private static String sortedQuery(String query) {
+        String[] parts = query.split("&");
+        Arrays.sort(parts);
+        return String.join("&", parts);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
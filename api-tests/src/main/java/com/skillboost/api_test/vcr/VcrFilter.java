@@ -0,0 +1,146 @@
+package com.skillboost.api_test.vcr;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Record/replay layer for the endpoint classes, installed by the transport when -Dapi.vcr.mode is set.
+ *
+ * One cassette per endpoint ("register.cassette") under api.vcr.dir
+ * (default src/test/resources/api/cassettes). Recorded cassettes are saved when the JVM exits,
+ * merged with what other forks saved meanwhile. In replay modes a hit is answered from memory
+ * without touching the network, the throttling governor or the connection pool.
+ *
+ * Interactions are tied to the test that recorded them ({@link VcrTestExtension}), so replay does
+ * not depend on test order (e.g. -Dtest.order=history).
+ */
+public class VcrFilter implements OrderedFilter {
+
+    public static final VcrMode MODE = VcrMode.fromSystemProperty();
+    private static final Path DIRECTORY = Paths.get(System.getProperty("api.vcr.dir", "src/test/resources/api/cassettes"));
+
+    private static final Map<String, VcrFilter> filters = new ConcurrentHashMap<>();
+    // Inheritable: AsyncUserEndpoints sends from threads started by the test thread
+    private static final InheritableThreadLocal<String> currentTest = new InheritableThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> filters.values().forEach(filter -> filter.cassette.save()),
+                "vcr-cassette-save"));
+    }
+
+    private final VcrMode mode;
+    private final Cassette cassette;
+
+    public VcrFilter(VcrMode mode, Cassette cassette) {
+        this.mode = mode;
+        this.cassette = cassette;
+    }
+
+    /**
+     * Shared filter for an endpoint path in the globally configured mode; the cassette is named
+     * after the last path segment ("/auth/register" → "register.cassette").
+     */
+    public static VcrFilter forEndpoint(String path) {
+        String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        String name = trimmed.substring(trimmed.lastIndexOf('/') + 1);
+        return filters.computeIfAbsent(name.isEmpty() ? "root" : name,
+                endpoint -> new VcrFilter(MODE, Cassette.open(DIRECTORY.resolve(endpoint + ".cassette"))));
+    }
+
+    public Cassette getCassette() {
+        return cassette;
+    }
+
+    /**
+     * Scopes the current thread's recordings and replay positions to a test. Called by {@link VcrTestExtension}.
+     */
+    public static void startTest(String testId) {
+        currentTest.set(testId);
+    }
+
+    public static void finishTest() {
+        String test = currentTest.get();
+        currentTest.remove();
+        if (test != null) {
+            filters.values().forEach(filter -> filter.cassette.finishTest(test));
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (mode == VcrMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        RequestKey key = RequestKey.of(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody());
+
+        if (mode == VcrMode.REPLAY || mode == VcrMode.STRICT) {
+            Optional<Cassette.Interaction> recorded = cassette.next(key, currentTest.get());
+            if (recorded.isPresent()) {
+                return replay(recorded.get(), key);
+            }
+            if (mode == VcrMode.STRICT) {
+                throw new IllegalStateException("No recorded interaction for " + key.description()
+                        + " in " + cassette.getFile() + " (strict replay); record it with -Dapi.vcr.mode=record");
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        cassette.record(new Cassette.Interaction(
+                key.hash(),
+                currentTest.get(),
+                key.description(),
+                response.statusCode(),
+                response.statusLine(),
+                headers(response.headers()),
+                key.mask(new String(response.asByteArray(), StandardCharsets.UTF_8))));
+        return response;
+    }
+
+    private static Response replay(Cassette.Interaction interaction, RequestKey key) {
+        List<Header> headers = new ArrayList<>();
+        interaction.headers().forEach((name, value) -> headers.add(new Header(name, value)));
+        String contentType = interaction.headers().getOrDefault("Content-Type", "application/json");
+
+        return new ResponseBuilder()
+                .setStatusCode(interaction.status())
+                .setStatusLine(interaction.statusLine())
+                .setHeaders(new Headers(headers))
+                .setContentType(contentType)
+                .setBody(key.unmask(interaction.body()).getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static Map<String, String> headers(Headers headers) {
+        Map<String, String> copy = new LinkedHashMap<>();
+        for (Header header : headers) {
+            copy.putIfAbsent(header.getName(), header.getValue());
+        }
+        return copy;
+    }
+
+    /** Outside throttling and timing, inside contract validation (replayed bodies are still checked). */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+}
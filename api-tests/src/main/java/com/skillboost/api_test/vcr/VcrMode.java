@@ -0,0 +1,30 @@
+package com.skillboost.api_test.vcr;
+
+import java.util.Locale;
+
+/**
+ * How endpoint requests interact with cassettes (-Dapi.vcr.mode).
+ */
+public enum VcrMode {
+
+    /** Every request goes to the live API; cassettes are ignored. */
+    OFF,
+
+    /** Requests go to the live API and every exchange is written to the cassette. */
+    RECORD,
+
+    /** Recorded requests are answered from the cassette; unknown requests go to the live API. */
+    REPLAY,
+
+    /** Like REPLAY, but an unknown request fails instead of touching the network. */
+    STRICT;
+
+    public static VcrMode fromSystemProperty() {
+        String value = System.getProperty("api.vcr.mode", "off").trim();
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown api.vcr.mode '" + value + "', expected off, record, replay or strict");
+        }
+    }
+}
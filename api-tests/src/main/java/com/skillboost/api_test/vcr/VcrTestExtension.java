@@ -0,0 +1,22 @@
+package com.skillboost.api_test.vcr;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Tells {@link VcrFilter} which test is running, so that recordings and replay positions are kept
+ * per test (by JUnit unique id) rather than per JVM.
+ */
+public class VcrTestExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        VcrFilter.startTest(context.getUniqueId());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        VcrFilter.finishTest();
+    }
+}
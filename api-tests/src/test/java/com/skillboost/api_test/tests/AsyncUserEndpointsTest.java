@@ -0,0 +1,65 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.endpoints.AsyncUserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import com.skillboost.api_test.utils.AssertionUtils;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("User Service")
+@Feature("Async client")
+public class AsyncUserEndpointsTest {
+
+    @Test
+    @Story("Concurrent registration")
+    @Description("Many concurrent register calls through the async client all complete with mapped responses")
+    @DisplayName("Async: concurrent registrations against the stub")
+    void registersConcurrently() {
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults().latency(20, 10))) {
+            AsyncUserEndpoints endpoints = new AsyncUserEndpoints(stub.getBaseUrl());
+
+            List<CompletableFuture<RegisterResponse>> futures = IntStream.range(0, 50)
+                    .mapToObj(i -> endpoints.register(request("async" + i + "@skillboost.test", "Aa1@aQQQ")))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            for (CompletableFuture<RegisterResponse> future : futures) {
+                AssertionUtils.assertTrueCondition(Boolean.TRUE.equals(future.join().getSuccess()),
+                        "Async registration should succeed");
+            }
+            assertThat(stub.getRequestCount(), equalTo(50L));
+        }
+    }
+
+    @Test
+    @Story("Validation errors")
+    @DisplayName("Async: validation errors map to ErrorItem list")
+    void mapsValidationErrors() {
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            RegisterResponse response = new AsyncUserEndpoints(stub.getBaseUrl())
+                    .register(request("utulv.noblet@inbox.testmail.app", "A"))
+                    .join();
+
+            assertThat(response.getStatus(), equalTo(400));
+            AssertionUtils.assertErrorContainsField(response.getErrors(), "password");
+        }
+    }
+
+    private static RegisterRequest request(String email, String password) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
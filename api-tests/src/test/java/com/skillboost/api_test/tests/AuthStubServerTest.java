@@ -0,0 +1,97 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.client.ThrottlingFilter;
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("User Service")
+@Feature("Auth stub server")
+public class AuthStubServerTest {
+
+    private static final String TAKEN_EMAIL = "taken@skillboost.test";
+
+    @AfterEach
+    void resetGovernors() {
+        ThrottlingFilter.resetGovernors();
+    }
+
+    @Test
+    @Story("Stub contract")
+    @Description("The stub reproduces the success, validation-error and conflict shapes of RegisterResponse")
+    @DisplayName("Stub: register response shapes")
+    void stubReproducesRegisterContract() {
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults().seedEmails(List.of(TAKEN_EMAIL)))) {
+            UserEndpoints endpoints = new UserEndpoints(stub.getBaseUrl());
+
+            RegisterResponse success = endpoints.register(request("new.user@skillboost.test", "Aa1@aQQQ"));
+            assertThat(success.getSuccess(), is(true));
+            assertThat(success.getData().getEmail(), equalTo("new.user@skillboost.test"));
+            assertThat(success.getMetadata().getTraceId(), not(emptyOrNullString()));
+
+            RegisterResponse invalid = endpoints.register(request("", "A"));
+            assertThat(invalid.getStatus(), equalTo(400));
+            assertThat(invalid.getErrors(), hasSize(2));
+            assertThat(invalid.getErrors().get(1).getField(), equalTo("password"));
+
+            RegisterResponse conflict = endpoints.register(request(TAKEN_EMAIL, "Aa1@aQQQ"));
+            assertThat(conflict.getStatus(), equalTo(409));
+            assertThat(conflict.getMessage(), containsString("Email already exists"));
+        }
+    }
+
+    @Test
+    @Story("Stub contract")
+    @Description("A literal null JSON body is a client error (400), not a server failure")
+    @DisplayName("Stub: null body is rejected with 400")
+    void stubRejectsNullBody() {
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            int status = RestAssured.given()
+                    .baseUri(stub.getBaseUrl())
+                    .contentType(ContentType.JSON)
+                    .body("null")
+                    .post("/auth/register")
+                    .statusCode();
+
+            assertThat(status, equalTo(400));
+        }
+    }
+
+    @Test
+    @Story("Stub fault injection")
+    @Description("With errorRate=1.0 every request (and every re-send) is answered with 503 after the configured latency")
+    @DisplayName("Stub: error and latency injection")
+    void stubInjectsErrorsAndLatency() {
+        StubConfig config = StubConfig.defaults().errorRate(1.0).latency(50, 0);
+        try (AuthStubServer stub = AuthStubServer.start(config)) {
+            UserEndpoints endpoints = new UserEndpoints(stub.getBaseUrl());
+
+            long start = System.nanoTime();
+            RegisterResponse response = endpoints.register(request("any@skillboost.test", "Aa1@aQQQ"));
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(response.getStatus(), equalTo(503));
+            assertThat(elapsedMs, greaterThanOrEqualTo(50L));
+        }
+    }
+
+    private static RegisterRequest request(String email, String password) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,61 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.contract.ContractValidator;
+import com.skillboost.api_test.contract.SchemaRegistry;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("User Service")
+@Feature("Response contracts")
+public class ContractValidatorTest {
+
+    private static final String SUCCESS = """
+            {"success":true,"message":"User registered successfully",
+             "data":{"id":"u-1","email":"new.user@skillboost.test","is_verified":false},
+             "metadata":{"traceId":"t-1","timestamp":"2025-01-01T00:00:00Z"}}
+            """;
+
+    private static final String VALIDATION_ERROR = """
+            {"success":false,"status":400,"message":"Validation failed",
+             "errors":[{"field":"email","message":"Email is required"}]}
+            """;
+
+    @Test
+    @Story("Register contract")
+    @Description("Success and validation-error bodies match their schemas")
+    @DisplayName("Contract: valid register bodies pass")
+    void validBodiesMatch() {
+        assertThat(ContractValidator.validate(bytes(SUCCESS), "register-success"), empty());
+        assertThat(ContractValidator.validate(bytes(VALIDATION_ERROR), "register-error"), empty());
+    }
+
+    @Test
+    @Story("Register contract")
+    @Description("A success body without user data is rejected with a readable violation")
+    @DisplayName("Contract: missing data is reported")
+    void missingDataIsReported() {
+        List<String> violations = ContractValidator.validate(bytes("{\"success\":true}"), "register-success");
+
+        assertThat(violations, hasSize(1));
+        assertThat(violations.get(0), containsString("data"));
+    }
+
+    @Test
+    @Story("Schema registry")
+    @Description("Schemas are compiled once and the same instance is shared afterwards")
+    @DisplayName("Contract: schemas are cached")
+    void schemasAreCached() {
+        assertThat(SchemaRegistry.get("register-error"), sameInstance(SchemaRegistry.get("register-error")));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.latency.LatencyBudget;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@Epic("Test Framework")
+@Feature("Latency budgets")
+public class LatencyBudgetTest {
+
+    private static final String TAKEN_EMAIL = "taken@skillboost.test";
+    private static final AtomicInteger invocations = new AtomicInteger();
+    private static final AtomicInteger beforeEachCalls = new AtomicInteger();
+
+    private static AuthStubServer stub;
+    private static UserEndpoints endpoints;
+
+    @BeforeAll
+    static void startStub() {
+        stub = AuthStubServer.start(StubConfig.defaults().latency(10, 0).seedEmails(List.of(TAKEN_EMAIL)));
+        endpoints = new UserEndpoints(stub.getBaseUrl());
+    }
+
+    @BeforeEach
+    void countBeforeEach() {
+        beforeEachCalls.incrementAndGet();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+        // 2 warmup runs + 5 measured runs, one endpoint call each, each a full test execution
+        assertThat(invocations.get(), equalTo(7));
+        assertThat(beforeEachCalls.get(), equalTo(7));
+        assertThat(stub.getRequestCount(), equalTo(7L));
+    }
+
+    @Story("Budget check")
+    @Description("The annotated test runs warmup + samples times, each with its lifecycle callbacks, and passes within a generous budget")
+    @DisplayName("Latency: stub register within budget")
+    @LatencyBudget(p50 = "2s", max = "5s", samples = 5, warmup = 2)
+    void stubRegisterWithinBudget() {
+        invocations.incrementAndGet();
+
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(TAKEN_EMAIL);
+        request.setPassword("Aa1@aQQQ");
+
+        assertThat(endpoints.register(request).getStatus(), equalTo(409));
+    }
+}
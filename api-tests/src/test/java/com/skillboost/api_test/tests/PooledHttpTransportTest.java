@@ -0,0 +1,52 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import io.qameta.allure.*;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("HTTP transport")
+public class PooledHttpTransportTest {
+
+    @Test
+    @Story("Endpoint templates")
+    @Description("A shared request spec contributes headers and filters but never the endpoint's base URI or path")
+    @DisplayName("Transport: shared spec keeps the endpoint path")
+    void sharedSpecKeepsEndpointPath() {
+        List<String> requested = new CopyOnWriteArrayList<>();
+        Filter recorder = (requestSpec, responseSpec, ctx) -> {
+            requested.add(requestSpec.getMethod() + " " + requestSpec.getURI());
+            return ctx.next(requestSpec, responseSpec);
+        };
+
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            UserEndpoints endpoints = new UserEndpoints(stub.getBaseUrl(), new RequestSpecBuilder()
+                    .setContentType(ContentType.JSON)
+                    .addHeader("Accept", "application/json")
+                    .addFilter(recorder)
+                    .build());
+
+            RegisterRequest request = new RegisterRequest();
+            request.setEmail("transport@skillboost.test");
+            request.setPassword("Aa1@aQQQ");
+            RegisterResponse response = endpoints.register(request);
+
+            assertThat(response.getSuccess(), equalTo(true));
+            assertThat(requested, contains("POST " + stub.getBaseUrl() + "/auth/register"));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.client.AdaptiveConcurrencyLimiter;
+import com.skillboost.api_test.client.TokenBucket;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("API rate governor")
+public class RateGovernorTest {
+
+    @Test
+    @Story("Token bucket")
+    @Description("After the burst is used up, permits are handed out at the configured rate")
+    @DisplayName("Governor: token bucket paces to its rate")
+    void tokenBucketPacesRequests() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(50, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 30; i++) {
+            bucket.acquire();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 5 burst permits are free, the other 25 take 25 / 50 rps = 500 ms
+        assertThat(elapsedMs, allOf(greaterThanOrEqualTo(450L), lessThan(1500L)));
+        assertThat(bucket.tryAcquire(), is(false));
+    }
+
+    @Test
+    @Story("AIMD")
+    @Description("A throttled response halves the window once per congestion event; successes grow it back slowly")
+    @DisplayName("Governor: AIMD window reacts to throttling")
+    void limiterDecreasesMultiplicativelyAndIncreasesAdditively() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 16);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.onThrottled(first, 0);
+        limiter.onThrottled(second, 0); // same congestion event, must not halve again
+        assertThat(limiter.getLimit(), closeTo(8.0, 0.001));
+
+        for (int i = 0; i < 8; i++) {
+            limiter.onSuccess(limiter.acquire());
+        }
+        assertThat(limiter.getLimit(), allOf(greaterThan(8.0), lessThan(10.0)));
+    }
+
+    @Test
+    @Story("Retry-After")
+    @Description("Callers are held back until the Retry-After pause of a throttled response has passed")
+    @DisplayName("Governor: Retry-After pauses new requests")
+    void retryAfterPausesCallers() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4);
+        limiter.onThrottled(limiter.acquire(), 200);
+
+        long start = System.nanoTime();
+        limiter.onSuccess(limiter.acquire());
+
+        assertThat((System.nanoTime() - start) / 1_000_000, greaterThanOrEqualTo(190L));
+    }
+}
@@ -0,0 +1,76 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.logging.CapturedExchange;
+import com.skillboost.api_test.logging.SampledLoggingFilter;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import io.qameta.allure.*;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("API logging")
+public class SampledLoggingFilterTest {
+
+    @Test
+    @Story("Per-test capture")
+    @Description("Every exchange is captured for the running test even when console sampling is off")
+    @DisplayName("Logging: exchanges captured with sampling disabled")
+    void capturesExchangesWhenNotSampled() {
+        double previousRate = SampledLoggingFilter.getSampleRate();
+        SampledLoggingFilter.setSampleRate(0);
+
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            UserEndpoints endpoints = new UserEndpoints(stub.getBaseUrl(), new RequestSpecBuilder()
+                    .setContentType(ContentType.JSON)
+                    .addFilter(new SampledLoggingFilter())
+                    .build());
+
+            SampledLoggingFilter.startCapture();
+            endpoints.register(request("captured@skillboost.test", "Aa1@aQQQ"));
+            endpoints.register(request("", "A"));
+            List<CapturedExchange> exchanges = SampledLoggingFilter.stopCapture();
+
+            assertThat(exchanges, hasSize(2));
+            assertThat(exchanges.get(0).method(), equalTo("POST"));
+            assertThat(exchanges.get(0).uri(), equalTo(stub.getBaseUrl() + "/auth/register"));
+            assertThat(exchanges.get(0).statusCode(), equalTo(201));
+            assertThat(exchanges.get(1).statusCode(), equalTo(400));
+            assertThat(exchanges.get(1).format(10_000), containsString("Validation failed"));
+            assertThat(SampledLoggingFilter.stopCapture(), empty());
+        } finally {
+            SampledLoggingFilter.setSampleRate(previousRate);
+        }
+    }
+
+    @Test
+    @Story("Body truncation")
+    @Description("Rendered bodies are cut to the configured length and report how much was dropped")
+    @DisplayName("Logging: long bodies are truncated")
+    void truncatesLongBodies() {
+        String body = "x".repeat(500);
+        CapturedExchange exchange = new CapturedExchange("POST", "http://localhost/auth/register", null,
+                body, 200, "HTTP/1.1 200 OK", null, body.getBytes(), 3);
+
+        String text = exchange.format(100);
+
+        assertThat(text, containsString("[truncated 400 chars]"));
+        assertThat(text, not(containsString("x".repeat(101))));
+    }
+
+    private static RegisterRequest request(String email, String password) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.client.ThrottleMetrics;
+import com.skillboost.api_test.client.ThrottlingFilter;
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("API rate governor")
+public class ThrottlingFilterTest {
+
+    private static final int MAX_RETRIES = Integer.getInteger("api.throttle.maxRetries", 3);
+
+    @BeforeEach
+    @AfterEach
+    void resetGovernors() {
+        ThrottlingFilter.resetGovernors();
+    }
+
+    @Test
+    @Story("Retries")
+    @Description("Against a stub that answers every request with 429 or 503, each request goes through the filter "
+            + "chain once per send; the last throttled response is returned after maxRetries re-sends")
+    @DisplayName("Throttling filter: re-sends outside the chain until retries are exhausted")
+    void throttledRequestIsResentUntilRetriesAreExhausted() {
+        StubConfig config = StubConfig.defaults().throttleRate(0.5).errorRate(0.5);
+        try (AuthStubServer stub = AuthStubServer.start(config)) {
+            UserEndpoints endpoints = new UserEndpoints(stub.getBaseUrl());
+            ThrottleMetrics.Snapshot before = ThrottleMetrics.global().snapshot();
+
+            RegisterResponse response = endpoints.register(request("throttled@skillboost.test"));
+
+            ThrottleMetrics.Snapshot after = ThrottleMetrics.global().snapshot();
+            assertThat(response.getStatus(), anyOf(equalTo(429), equalTo(503)));
+            assertThat(after.requests() - before.requests(), equalTo(MAX_RETRIES + 1L));
+            assertThat(after.throttled() - before.throttled(), equalTo(MAX_RETRIES + 1L));
+            assertThat(after.retries() - before.retries(), equalTo((long) MAX_RETRIES));
+            assertThat(after.exhausted() - before.exhausted(), equalTo(1L));
+        }
+    }
+
+    @Test
+    @Story("Retries")
+    @Description("Once the governors are reset, a request to a healthy server is not held back by an earlier backoff")
+    @DisplayName("Throttling filter: reset clears the backoff pause")
+    void resetClearsBackoffPause() {
+        try (AuthStubServer throttling = AuthStubServer.start(StubConfig.defaults().errorRate(1.0))) {
+            new UserEndpoints(throttling.getBaseUrl()).register(request("paused@skillboost.test"));
+        }
+        ThrottlingFilter.resetGovernors();
+
+        try (AuthStubServer healthy = AuthStubServer.start(StubConfig.defaults())) {
+            long start = System.nanoTime();
+            RegisterResponse response = new UserEndpoints(healthy.getBaseUrl()).register(request("fresh@skillboost.test"));
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(response.getSuccess(), is(true));
+            assertThat(elapsedMs, lessThan(500L));
+        }
+    }
+
+    private static RegisterRequest request(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword("Aa1@aQQQ");
+        return request;
+    }
+}
@@ -1,15 +1,21 @@
 package com.skillboost.api_test.tests;
 
 import com.skillboost.api_test.base.BaseTest;
+import com.skillboost.api_test.client.ThrottlingFilter;
 import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.latency.LatencyBudget;
 import com.skillboost.api_test.models.user.request.RegisterRequest;
 import com.skillboost.api_test.models.user.response.RegisterResponse;
 import com.skillboost.api_test.utils.AssertionUtils;
 import com.skillboost.api_test.utils.JsonUtils;
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.AccountLeaseService.AccountLease;
+import com.skillboost.common.accounts.TestAccountFactory;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -19,6 +25,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 @Epic("User Service")
 @Feature("Register")
@@ -28,9 +35,10 @@ public class UserApiTest extends BaseTest {
     private static Map<String, Object> testData;
     private static Map<String, Object> registerMap;
 
+    // Named differently from BaseTest.setup() so the base @BeforeAll is not hidden and requestSpec is built first
     @BeforeAll
-    public static void setup() {
-        userEndpoints = new UserEndpoints(BASE_URL);
+    public static void initEndpoints() {
+        userEndpoints = new UserEndpoints(BASE_URL, requestSpec);
         testData = JsonUtils.fromJsonFile("src/test/resources/api/testdata/user_test_data.json", Map.class);
         AssertionUtils.suppressLogs();
 
@@ -48,8 +56,9 @@ public class UserApiTest extends BaseTest {
         // Load valid request from JSON safely
         Map<String, String> validPayload = JsonUtils.convertValue(registerMap.get("valid"), Map.class);
 
+        // Unique email per run/worker; the data-file address only works for the very first registration
         RegisterRequest request = new RegisterRequest();
-        request.setEmail(validPayload.get("email"));
+        request.setEmail(TestAccountFactory.newEmail());
         request.setPassword(validPayload.get("password"));
 
         // Call API
@@ -98,14 +107,24 @@ public class UserApiTest extends BaseTest {
     @DisplayName("Register: Fail when email already exists")
     void testRegisterEmailAlreadyExists() {
 
-        Map<String, String> existsPayload =
-                (Map<String, String>) JsonUtils.convertValue(registerMap.get("invalid"), List.class).get(2);
-
-        RegisterRequest request = new RegisterRequest();
-        request.setEmail(existsPayload.get("email"));
-        request.setPassword(existsPayload.get("password"));
+        RegisterResponse response;
+        if (AccountLeaseService.sliceSize() > 0) {
+            // A provisioned pool account is registered for sure, whatever fixture data the environment has
+            try (AccountLease lease = AccountLeaseService.lease()) {
+                RegisterRequest request = new RegisterRequest();
+                request.setEmail(lease.account().email());
+                request.setPassword(lease.account().password());
+                response = userEndpoints.register(request);
+            }
+        } else {
+            Map<String, String> existsPayload =
+                    (Map<String, String>) JsonUtils.convertValue(registerMap.get("invalid"), List.class).get(2);
 
-        RegisterResponse response = userEndpoints.register(request);
+            RegisterRequest request = new RegisterRequest();
+            request.setEmail(existsPayload.get("email"));
+            request.setPassword(existsPayload.get("password"));
+            response = userEndpoints.register(request);
+        }
 
         // ---- Handle backend outage (503) gracefully ----
         if (response.getStatus() != null && response.getStatus() == 503) {
@@ -153,8 +172,37 @@ public class UserApiTest extends BaseTest {
                 response.getErrors().get(0).getField(), containsString("password"));
     }
 
+    @Order(5)
+    @Story("Register latency")
+    @Description("The register endpoint answers a duplicate-email request within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Register: p95 latency within budget")
+    @LatencyBudget(p95 = "800ms", samples = 20)
+    @Tag("perf") // 20+ live calls: excluded from regular runs, included with -Pperf-gate
+    void testRegisterLatencyBudget() {
+        RegisterRequest request = new RegisterRequest();
+        RegisterResponse response;
+        if (AccountLeaseService.sliceSize() > 0) {
+            // Conflict path on a provisioned pool account: the full register flow without creating accounts
+            try (AccountLease lease = AccountLeaseService.lease()) {
+                request.setEmail(lease.account().email());
+                request.setPassword(lease.account().password());
+                response = userEndpoints.register(request);
+            }
+        } else {
+            request.setEmail(TestAccountFactory.newEmail());
+            request.setPassword(TestAccountFactory.newPassword());
+            response = userEndpoints.register(request);
+        }
 
+        // Still throttled after the retries: not a latency sample, the repetition is skipped
+        assumeFalse(response.getStatus() != null && ThrottlingFilter.isThrottled(response.getStatus()),
+                "Register throttled with " + response.getStatus());
 
-
-
+        if (AccountLeaseService.sliceSize() > 0) {
+            assertThat("Expected 409 Conflict for a pool account", response.getStatus(), equalTo(409));
+        } else {
+            assertThat("Registration should succeed", response.getSuccess(), is(true));
+        }
+    }
 }
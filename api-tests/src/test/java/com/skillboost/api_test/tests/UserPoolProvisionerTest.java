@@ -0,0 +1,77 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.accounts.ApiAccountRegistrar;
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.TestAccount;
+import com.skillboost.common.accounts.UserPoolProvisioner;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Epic("Test Framework")
+@Feature("Test accounts")
+public class UserPoolProvisionerTest {
+
+    @Test
+    @Story("Account provisioning")
+    @Description("Provisioning treats 409 as already provisioned, persists the pool and sends nothing when the pool is warm")
+    @DisplayName("Accounts: pool provisioning is idempotent")
+    void provisioningIsIdempotent(@TempDir Path dir) {
+        Path poolFile = dir.resolve("pool.json");
+        UserPoolProvisioner probe = new UserPoolProvisioner(null, poolFile, "test-secret", 0);
+        String alreadyRegistered = probe.poolAccount(0).email();
+
+        StubConfig config = StubConfig.defaults().seedEmails(List.of(alreadyRegistered));
+        try (AuthStubServer stub = AuthStubServer.start(config)) {
+            UserPoolProvisioner provisioner =
+                    new UserPoolProvisioner(new ApiAccountRegistrar(new UserEndpoints(stub.getBaseUrl())), poolFile, "test-secret", 100);
+
+            List<TestAccount> pool = provisioner.ensurePool(5);
+            long requestsAfterFirstRun = stub.getRequestCount();
+
+            assertThat(pool, hasSize(5));
+            assertThat(requestsAfterFirstRun, equalTo(5L));
+            assertThat(AccountLeaseService.loadSlice(poolFile, 0, 1), equalTo(pool));
+
+            provisioner.ensurePool(5);
+            assertThat("A warm pool must not be registered again", stub.getRequestCount(), equalTo(requestsAfterFirstRun));
+        }
+    }
+
+    @Test
+    @Story("Account provisioning")
+    @Description("Pool emails depend on the secret, so a 409 can only come from an account with the same password")
+    @DisplayName("Accounts: pool emails are derived from the secret")
+    void poolEmailsDependOnSecret(@TempDir Path dir) {
+        Path poolFile = dir.resolve("pool.json");
+        TestAccount first = new UserPoolProvisioner(null, poolFile, "test-secret", 0).poolAccount(0);
+        TestAccount same = new UserPoolProvisioner(null, poolFile, "test-secret", 0).poolAccount(0);
+        TestAccount rotated = new UserPoolProvisioner(null, poolFile, "rotated-secret", 0).poolAccount(0);
+
+        assertThat(same, equalTo(first));
+        assertThat(rotated.email(), not(equalTo(first.email())));
+        assertThat(rotated.password(), not(equalTo(first.password())));
+    }
+
+    @Test
+    @Story("Account provisioning")
+    @Description("There is no default secret: provisioning refuses to start without one")
+    @DisplayName("Accounts: provisioning requires a secret")
+    void provisioningRequiresSecret(@TempDir Path dir) {
+        Path poolFile = dir.resolve("pool.json");
+
+        assertThrows(IllegalArgumentException.class, () -> new UserPoolProvisioner(null, poolFile, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new UserPoolProvisioner(null, poolFile, " ", 0));
+    }
+}
@@ -0,0 +1,143 @@
+package com.skillboost.api_test.tests;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.stub.StubConfig;
+import com.skillboost.api_test.vcr.Cassette;
+import com.skillboost.api_test.vcr.VcrFilter;
+import com.skillboost.api_test.vcr.VcrMode;
+import com.skillboost.common.accounts.TestAccountFactory;
+import io.qameta.allure.*;
+import io.restassured.builder.RequestSpecBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Epic("Test Framework")
+@Feature("Record / replay")
+public class VcrFilterTest {
+
+    private static final String PASSWORD = "Aa1@aQQQ";
+    // Same API path as the recordings, on a port nothing listens on
+    private static final String OFFLINE_BASE_URL = "http://localhost:1" + StubConfig.defaults().getBasePath();
+
+    @Test
+    @Story("Replay")
+    @Description("Exchanges recorded against the stub replay offline, with a freshly generated email substituted back in")
+    @DisplayName("VCR: record, then replay strictly without a server")
+    void recordedExchangesReplayWithoutServer(@TempDir Path dir) {
+        Path file = dir.resolve("register.cassette");
+
+        Cassette recording = Cassette.open(file);
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            UserEndpoints endpoints = endpoints(stub.getBaseUrl(), new VcrFilter(VcrMode.RECORD, recording));
+            String email = TestAccountFactory.newEmail();
+
+            assertThat(endpoints.register(request(email)).getData().getEmail(), equalTo(email));
+            assertThat(endpoints.register(request(email)).getStatus(), equalTo(409));
+        }
+        recording.save();
+
+        // The stub is gone: every request below must be served from the cassette
+        Cassette replaying = Cassette.open(file);
+        assertThat(replaying.size(), equalTo(2));
+        UserEndpoints endpoints = endpoints(OFFLINE_BASE_URL, new VcrFilter(VcrMode.STRICT, replaying));
+        String freshEmail = TestAccountFactory.newEmail();
+
+        RegisterResponse created = endpoints.register(request(freshEmail));
+        assertThat(created.getSuccess(), is(true));
+        assertThat(created.getData().getEmail(), equalTo(freshEmail));
+
+        RegisterResponse conflict = endpoints.register(request(freshEmail));
+        assertThat(conflict.getStatus(), equalTo(409));
+        assertThat(conflict.getDetail(), containsString(freshEmail));
+    }
+
+    @Test
+    @Story("Replay")
+    @Description("Two tests that register generated emails share a masked key; each replays its own recordings "
+            + "from its own position, even when the tests replay in the opposite order")
+    @DisplayName("VCR: replay positions are kept per test")
+    void replayPositionsArePerTest(@TempDir Path dir) {
+        Path file = dir.resolve("register.cassette");
+
+        Cassette recording = Cassette.open(file);
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            UserEndpoints endpoints = endpoints(stub.getBaseUrl(), new VcrFilter(VcrMode.RECORD, recording));
+            String duplicate = TestAccountFactory.newEmail();
+            VcrFilter.startTest("[test:duplicate]");
+            endpoints.register(request(duplicate));
+            endpoints.register(request(duplicate));
+            VcrFilter.finishTest();
+            VcrFilter.startTest("[test:single]");
+            endpoints.register(request(TestAccountFactory.newEmail()));
+            VcrFilter.finishTest();
+        }
+        recording.save();
+
+        UserEndpoints endpoints = endpoints(OFFLINE_BASE_URL, new VcrFilter(VcrMode.STRICT, Cassette.open(file)));
+        try {
+            VcrFilter.startTest("[test:single]");
+            assertThat(endpoints.register(request(TestAccountFactory.newEmail())).getSuccess(), is(true));
+            VcrFilter.finishTest();
+
+            VcrFilter.startTest("[test:duplicate]");
+            String email = TestAccountFactory.newEmail();
+            assertThat(endpoints.register(request(email)).getSuccess(), is(true));
+            assertThat(endpoints.register(request(email)).getStatus(), equalTo(409));
+        } finally {
+            VcrFilter.finishTest();
+        }
+    }
+
+    @Test
+    @Story("Recording")
+    @Description("Forks saving the same cassette merge their recordings instead of overwriting each other")
+    @DisplayName("VCR: concurrent recorders merge into one cassette")
+    void savesMergeRecordingsOfSeveralRecorders(@TempDir Path dir) {
+        Path file = dir.resolve("register.cassette");
+        Cassette firstFork = Cassette.open(file);
+        Cassette secondFork = Cassette.open(file);
+
+        try (AuthStubServer stub = AuthStubServer.start(StubConfig.defaults())) {
+            endpoints(stub.getBaseUrl(), new VcrFilter(VcrMode.RECORD, firstFork)).register(request(TestAccountFactory.newEmail()));
+            endpoints(stub.getBaseUrl(), new VcrFilter(VcrMode.RECORD, secondFork)).register(request("other@skillboost.test"));
+        }
+        firstFork.save();
+        secondFork.save();
+
+        assertThat(Cassette.open(file).size(), equalTo(2));
+    }
+
+    @Test
+    @Story("Strict mode")
+    @Description("In strict mode a request without a recording fails instead of reaching the network")
+    @DisplayName("VCR: strict replay rejects unrecorded requests")
+    void strictModeRejectsUnrecordedRequests(@TempDir Path dir) {
+        Cassette empty = Cassette.open(dir.resolve("register.cassette"));
+        UserEndpoints endpoints = endpoints(OFFLINE_BASE_URL, new VcrFilter(VcrMode.STRICT, empty));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> endpoints.register(request("someone@skillboost.test")));
+        assertThat(error.getMessage(), containsString("POST /api/v1/auth/register"));
+    }
+
+    private static UserEndpoints endpoints(String baseUrl, VcrFilter filter) {
+        return new UserEndpoints(baseUrl, new RequestSpecBuilder().addFilter(filter).build());
+    }
+
+    private static RegisterRequest request(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.skillboost.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files (e.g. from the previous commit and the current one)
+ * and fails when any benchmark got slower than the allowed threshold.
+ *
+ * Usage:
+ *   java ... BenchmarkComparator [current.json]
+ *     -Djmh.baseline=path/to/baseline.json   (skipped when not set)
+ *     -Djmh.threshold=10                     (allowed regression in percent)
+ */
+public final class BenchmarkComparator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        Path current = Path.of(args.length > 0 ? args[0] : "target/jmh-results.json");
+        String baseline = System.getProperty("jmh.baseline", "");
+        double thresholdPercent = Double.parseDouble(System.getProperty("jmh.threshold", "10"));
+
+        if (baseline.isBlank()) {
+            System.out.println("ℹ️ No -Djmh.baseline given, skipping benchmark comparison");
+            return;
+        }
+
+        int regressions = compare(read(Path.of(baseline)), read(current), thresholdPercent);
+        if (regressions > 0) {
+            System.out.println("❌ " + regressions + " benchmark(s) regressed by more than " + thresholdPercent + "%");
+            System.exit(1);
+        }
+        System.out.println("✅ No benchmark regressed by more than " + thresholdPercent + "%");
+    }
+
+    /**
+     * Prints a row per benchmark present in both files and returns the number of regressions.
+     * Throughput modes are better when higher, all time-based modes when lower.
+     */
+    static int compare(Map<String, JsonNode> baseline, Map<String, JsonNode> current, double thresholdPercent) {
+        int regressions = 0;
+        System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %9s%n", entry.getKey(), "-", score(entry.getValue()), "new");
+                continue;
+            }
+
+            double oldScore = score(before);
+            double newScore = score(entry.getValue());
+            double changePercent = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore * 100;
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            double worsePercent = higherIsBetter ? -changePercent : changePercent;
+
+            boolean regressed = worsePercent > thresholdPercent;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%%%s%n",
+                    entry.getKey(), oldScore, newScore, changePercent, regressed ? "  ❌" : "");
+        }
+        return regressions;
+    }
+
+    /** Keys results by benchmark name, mode and parameters so parameterised runs compare pairwise. */
+    static Map<String, JsonNode> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("JMH result file not found: " + file.toAbsolutePath());
+        }
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+                    .append(" [").append(run.path("mode").asText()).append(']');
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            results.put(key.toString(), run);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode run) {
+        return run.path("primaryMetric").path("score").asDouble();
+    }
+}
@@ -0,0 +1,152 @@
+package com.skillboost.common.accounts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands out pre-provisioned (already registered) accounts to tests that need an existing user,
+ * such as login flows, without two tests ever using the same account at the same time.
+ *
+ * The pool file is split into disjoint slices, one per surefire fork (account i belongs to
+ * fork i % forkCount), so forks never share accounts and need no coordination. Inside a fork,
+ * threads take accounts from a blocking queue and put them back when the lease is closed:
+ *
+ *   try (AccountLease lease = AccountLeaseService.lease()) {
+ *       loginPage.login(lease.account().email(), lease.account().password());
+ *   }
+ *
+ * System properties:
+ *   accounts.pool.file        - JSON pool written by the provisioner. Surefire sets it to
+ *                               .test-history/account-pool.json under the reactor root, so every module
+ *                               shares one pool and mvn clean keeps it warm; outside Maven the default
+ *                               is the same path relative to the working directory
+ *   accounts.lease.timeoutSec - how long lease() waits for a free account (default 60)
+ */
+public final class AccountLeaseService {
+
+    public static final String DEFAULT_POOL_FILE = ".test-history/account-pool.json";
+    private static final long LEASE_TIMEOUT_SECONDS = Long.getLong("accounts.lease.timeoutSec", 60);
+
+    private static volatile AccountLeaseService instance;
+
+    private final LinkedBlockingQueue<TestAccount> available;
+    private final int size;
+
+    private AccountLeaseService(List<TestAccount> slice) {
+        this.available = new LinkedBlockingQueue<>(slice);
+        this.size = slice.size();
+    }
+
+    /**
+     * Leases an account from this fork's slice of the pool, waiting if all of them are in use.
+     */
+    public static AccountLease lease() {
+        return get().acquire();
+    }
+
+    static AccountLeaseService get() {
+        AccountLeaseService service = instance;
+        if (service == null) {
+            synchronized (AccountLeaseService.class) {
+                service = instance;
+                if (service == null) {
+                    service = new AccountLeaseService(loadSlice(poolFile(),
+                            TestAccountFactory.workerId(), TestAccountFactory.workerCount()));
+                    instance = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    public static Path poolFile() {
+        return Paths.get(System.getProperty("accounts.pool.file", DEFAULT_POOL_FILE));
+    }
+
+    /** Accounts owned by this fork, including those currently leased. */
+    public static int sliceSize() {
+        return get().size;
+    }
+
+    private AccountLease acquire() {
+        if (size == 0) {
+            throw new IllegalStateException("No pre-provisioned accounts for worker " + TestAccountFactory.workerId()
+                    + " in " + poolFile().toAbsolutePath() + ". Provision the pool first or use TestAccountFactory.");
+        }
+        try {
+            TestAccount account = available.poll(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (account == null) {
+                throw new IllegalStateException("No free test account after " + LEASE_TIMEOUT_SECONDS
+                        + "s; all " + size + " accounts of this worker are leased");
+            }
+            return new AccountLease(account, this);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a test account", e);
+        }
+    }
+
+    private void release(TestAccount account) {
+        available.offer(account);
+    }
+
+    /**
+     * Reads the pool file and keeps only the accounts that belong to the given worker.
+     */
+    public static List<TestAccount> loadSlice(Path file, int workerId, int workerCount) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            JsonNode accounts = new ObjectMapper().readTree(file.toFile()).path("accounts");
+            List<TestAccount> slice = new ArrayList<>();
+            for (int i = 0; i < accounts.size(); i++) {
+                if (i % workerCount == workerId) {
+                    JsonNode node = accounts.get(i);
+                    slice.add(new TestAccount(node.path("email").asText(), node.path("password").asText()));
+                }
+            }
+            System.out.println("✅ Account pool loaded: " + slice.size() + " of " + accounts.size()
+                    + " accounts for worker " + workerId + "/" + workerCount);
+            return slice;
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read account pool " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Exclusive use of one account until {@link #close()}; closing twice is harmless.
+     */
+    public static final class AccountLease implements AutoCloseable {
+
+        private final TestAccount account;
+        private final AccountLeaseService owner;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private AccountLease(TestAccount account, AccountLeaseService owner) {
+            this.account = account;
+            this.owner = owner;
+        }
+
+        public TestAccount account() {
+            return account;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                owner.release(account);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.skillboost.common.accounts;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Provisions the account pool once per JVM before any test is discovered or run, through the
+ * {@link AccountRegistrar} of the test module on the classpath.
+ * Registered in META-INF/services; does nothing unless -Daccounts.pool.size is greater than 0.
+ * The pool secret comes from -Daccounts.pool.secret or the ACCOUNTS_POOL_SECRET environment variable
+ * (a CI secret); without it provisioning fails and leasing tests report the missing pool.
+ */
+public class AccountPoolSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        int size = Integer.getInteger("accounts.pool.size", 0);
+        if (size <= 0) {
+            return;
+        }
+
+        Optional<AccountRegistrar> registrar = ServiceLoader.load(AccountRegistrar.class).findFirst();
+        if (registrar.isEmpty()) {
+            System.out.println("⚠️ accounts.pool.size is set, but no AccountRegistrar is registered on this classpath");
+            return;
+        }
+
+        try {
+            UserPoolProvisioner provisioner = new UserPoolProvisioner(
+                    registrar.get(),
+                    AccountLeaseService.poolFile(),
+                    System.getProperty("accounts.pool.secret", System.getenv("ACCOUNTS_POOL_SECRET")),
+                    Double.parseDouble(System.getProperty("accounts.provision.rps", "5")));
+            provisioner.ensurePool(size);
+        } catch (RuntimeException e) {
+            // Tests that lease accounts will fail with a clear message; everything else can still run
+            System.out.println("❌ Account pool provisioning failed → " + e.getMessage());
+        }
+    }
+}
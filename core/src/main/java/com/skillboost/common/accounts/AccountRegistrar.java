@@ -0,0 +1,22 @@
+package com.skillboost.common.accounts;
+
+/**
+ * Registers one user with the application under test, for {@link UserPoolProvisioner}.
+ * Each test module that can create users registers one in META-INF/services; a module without
+ * one (core) provisions no pool.
+ */
+public interface AccountRegistrar {
+
+    /**
+     * Outcome of a registration that did not fail.
+     */
+    enum Outcome { CREATED, ALREADY_REGISTERED }
+
+    /** Base URL of the API the accounts are registered with; the pool file is tied to it. */
+    String baseUrl();
+
+    /**
+     * @throws IllegalStateException with the server's answer when the account could not be registered
+     */
+    Outcome register(TestAccount account);
+}
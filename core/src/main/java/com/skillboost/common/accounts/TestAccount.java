@@ -0,0 +1,14 @@
+package com.skillboost.common.accounts;
+
+/**
+ * Credentials of one test user. Generated accounts satisfy the signup rules
+ * (valid email, password of 8+ characters with upper, lower, digit and symbol).
+ */
+public record TestAccount(String email, String password) {
+
+    @Override
+    public String toString() {
+        // Keep passwords out of logs and Allure parameters
+        return "TestAccount[" + email + "]";
+    }
+}
@@ -0,0 +1,107 @@
+package com.skillboost.common.accounts;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Generates unique, rule-compliant accounts for tests that need a user nobody else has touched
+ * (registration and signup flows).
+ *
+ * Emails have the form {@code <namespace>.<run>-w<worker>-<sequence>@<domain>}:
+ *   run       - random per-JVM salt (or -Dtest.run.id), so reruns never collide with old data
+ *   worker    - the surefire fork number, so parallel forks never collide with each other
+ *   sequence  - lock-free counter, so threads inside a fork never collide
+ *
+ * System properties:
+ *   accounts.namespace - local-part prefix (default "utulv", the testmail.app namespace of the seed data)
+ *   accounts.domain    - email domain (default "inbox.testmail.app")
+ *   test.run.id        - fixed run salt, e.g. a CI build number
+ */
+public final class TestAccountFactory {
+
+    private static final String NAMESPACE = System.getProperty("accounts.namespace", "utulv");
+    private static final String DOMAIN = System.getProperty("accounts.domain", "inbox.testmail.app");
+
+    private static final String RUN_ID = System.getProperty("test.run.id",
+            Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36 * 36 * 36), 36));
+    private static final AtomicLong sequence = new AtomicLong();
+
+    /** Matches any email produced by {@link #newEmail()}, from this run or any other. */
+    public static final Pattern GENERATED_EMAIL = Pattern.compile(
+            Pattern.quote(NAMESPACE) + "\\.[0-9a-z]+-w\\d+-\\d+@" + Pattern.quote(DOMAIN));
+
+    private static final String LOWER = "abcdefghijkmnopqrstuvwxyz";
+    private static final String UPPER = "ABCDEFGHJKLMNPQRSTUVWXYZ";
+    private static final String DIGITS = "23456789";
+    private static final String SYMBOLS = "!@#$%";
+
+    private TestAccountFactory() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns a new account whose email has never been handed out before (in this or any other run).
+     */
+    public static TestAccount newAccount() {
+        return new TestAccount(newEmail(), newPassword());
+    }
+
+    public static String newEmail() {
+        return emailFor(String.format(Locale.ROOT, "%s-w%d-%d", RUN_ID, workerId(), sequence.incrementAndGet()));
+    }
+
+    /**
+     * Builds {@code <namespace>.<tag>@<domain>}; callers are responsible for the tag being unique.
+     */
+    public static String emailFor(String tag) {
+        return NAMESPACE + "." + tag + "@" + DOMAIN;
+    }
+
+    /**
+     * 12 characters: one upper case letter, one digit and one symbol followed by nine lower case letters.
+     */
+    public static String newPassword() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] password = new char[12];
+        password[0] = UPPER.charAt(random.nextInt(UPPER.length()));
+        password[1] = DIGITS.charAt(random.nextInt(DIGITS.length()));
+        password[2] = SYMBOLS.charAt(random.nextInt(SYMBOLS.length()));
+        for (int i = 3; i < password.length; i++) {
+            password[i] = LOWER.charAt(random.nextInt(LOWER.length()));
+        }
+        return new String(password);
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Zero-based index of this JVM among the parallel surefire forks
+     * (surefire numbers forks from 1 and passes the number as surefire.forkNumber).
+     */
+    public static int workerId() {
+        String forkNumber = System.getProperty("surefire.forkNumber");
+        if (forkNumber == null || forkNumber.isBlank() || forkNumber.startsWith("$")) {
+            return 0;
+        }
+        return Math.max(0, Integer.parseInt(forkNumber.trim()) - 1);
+    }
+
+    /**
+     * Number of parallel forks, from accounts.forkCount (surefire's forkCount, "1C" style allowed).
+     */
+    public static int workerCount() {
+        String forkCount = System.getProperty("accounts.forkCount", "1").trim();
+        if (forkCount.isEmpty() || forkCount.startsWith("$")) {
+            return 1;
+        }
+        if (forkCount.endsWith("C") || forkCount.endsWith("c")) {
+            double perCore = Double.parseDouble(forkCount.substring(0, forkCount.length() - 1));
+            return Math.max(1, (int) (perCore * Runtime.getRuntime().availableProcessors()));
+        }
+        return Math.max(1, Integer.parseInt(forkCount));
+    }
+}
@@ -0,0 +1,214 @@
+package com.skillboost.common.accounts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registers a pool of test users through the module's {@link AccountRegistrar} before the suite
+ * starts and writes it to the file {@link AccountLeaseService} leases from.
+ *
+ * Pool accounts are deterministic (account i always has the same email and password for a given
+ * secret), which makes provisioning idempotent. The email carries a fingerprint of the secret, so
+ * a 409 "Email already exists" means the account was registered by an earlier run with the same
+ * secret, i.e. with the same password, and is counted as provisioned; changing the secret yields
+ * a fresh set of accounts instead of a pool of unusable passwords. Accounts already recorded in the
+ * pool file for the same base URL are not sent again, so a warm pool costs no requests at all.
+ * A file lock makes parallel surefire forks provision once and share the result.
+ *
+ * System properties:
+ *   accounts.pool.size     - number of accounts to keep provisioned (default 0 = provisioning off)
+ *   accounts.pool.secret   - seed for the deterministic emails and passwords, required; falls back to the
+ *                            ACCOUNTS_POOL_SECRET environment variable. It has no default: anyone who knows
+ *                            it can log in as every pool account, so it must come from the CI secret store
+ *   accounts.provision.rps - registration rate limit (default 5)
+ */
+public final class UserPoolProvisioner {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final AccountRegistrar registrar;
+    private final Path poolFile;
+    private final String secret;
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param secret        seed for the pool credentials; must not be null or blank
+     * @param ratePerSecond registrations per second, 0 = unlimited
+     */
+    public UserPoolProvisioner(AccountRegistrar registrar, Path poolFile, String secret, double ratePerSecond) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException(
+                    "accounts.pool.secret is not set; pass -Daccounts.pool.secret or ACCOUNTS_POOL_SECRET");
+        }
+        this.registrar = registrar;
+        this.poolFile = poolFile;
+        this.secret = secret;
+        this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+    }
+
+    /**
+     * Makes sure the pool file lists {@code size} registered accounts for the registrar's base URL.
+     *
+     * @return the provisioned accounts, in pool order
+     */
+    public List<TestAccount> ensurePool(int size) {
+        try {
+            Files.createDirectories(poolFile.toAbsolutePath().getParent());
+            Path lockFile = poolFile.resolveSibling(poolFile.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return provision(size);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to provision account pool " + poolFile.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    private List<TestAccount> provision(int size) throws IOException {
+        Set<String> known = readKnownEmails();
+        List<TestAccount> pool = new ArrayList<>(size);
+        List<TestAccount> missing = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            TestAccount account = poolAccount(i);
+            pool.add(account);
+            if (!known.contains(account.email())) {
+                missing.add(account);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            System.out.println("✅ Account pool up to date: " + size + " accounts in " + poolFile);
+            return pool;
+        }
+
+        System.out.println("👥 Provisioning " + missing.size() + " of " + size + " pool accounts against " + registrar.baseUrl());
+        long start = System.nanoTime();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger existing = new AtomicInteger();
+
+        List<String> failures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (TestAccount account : missing) {
+                results.add(executor.submit(() -> register(account, created, existing)));
+            }
+            for (Future<String> result : results) {
+                String failure = result.get();
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Account provisioning interrupted: " + e.getMessage(), e);
+        }
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Failed to provision " + failures.size() + " account(s), first: " + failures.get(0));
+        }
+
+        write(pool);
+        System.out.printf("✅ Account pool ready: %d created, %d already registered, %.1fs → %s%n",
+                created.get(), existing.get(), (System.nanoTime() - start) / 1e9, poolFile);
+        return pool;
+    }
+
+    /** @return null on success, otherwise a description of the failure */
+    private String register(TestAccount account, AtomicInteger created, AtomicInteger existing) throws InterruptedException {
+        pace();
+        try {
+            AccountRegistrar.Outcome outcome = registrar.register(account);
+            (outcome == AccountRegistrar.Outcome.CREATED ? created : existing).incrementAndGet();
+            return null;
+        } catch (IllegalStateException e) {
+            return account.email() + " → " + e.getMessage();
+        }
+    }
+
+    /** Spaces registrations out to the configured rate. */
+    private void pace() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextSlot.updateAndGet(previous -> Math.max(previous, now) + intervalNanos) - intervalNanos;
+        long wait = slot - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Account {@code index} of the pool; the same index and secret always give the same credentials.
+     */
+    public TestAccount poolAccount(int index) {
+        String digest = sha256Hex(secret + ":" + index);
+        String secretTag = sha256Hex("email:" + secret).substring(0, 8);
+        // Fixed upper/digit/symbol/lower prefix keeps the password compliant whatever the digest looks like
+        return new TestAccount(TestAccountFactory.emailFor("pool-" + secretTag + "-" + index), "P7!a" + digest.substring(0, 8));
+    }
+
+    private Set<String> readKnownEmails() throws IOException {
+        Set<String> emails = new HashSet<>();
+        if (!Files.exists(poolFile)) {
+            return emails;
+        }
+        JsonNode root = mapper.readTree(poolFile.toFile());
+        if (!registrar.baseUrl().equals(root.path("baseUrl").asText())) {
+            return emails; // provisioned against another environment (or an earlier stub instance)
+        }
+        root.path("accounts").forEach(account -> emails.add(account.path("email").asText()));
+        return emails;
+    }
+
+    private void write(List<TestAccount> pool) throws IOException {
+        ObjectNode root = mapper.createObjectNode()
+                .put("baseUrl", registrar.baseUrl())
+                .put("provisionedAt", Instant.now().toString());
+        ArrayNode accounts = root.putArray("accounts");
+        for (TestAccount account : pool) {
+            accounts.addObject().put("email", account.email()).put("password", account.password());
+        }
+
+        Path temp = poolFile.resolveSibling(poolFile.getFileName() + ".tmp");
+        mapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+        Files.move(temp, poolFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.skillboost.common.history;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Orders test classes and methods by their {@link TestHistory}. Configured as the default class and
+ * method orderer in junit-platform.properties; classes with their own @TestMethodOrder keep it.
+ *
+ * Modes (-Dtest.order):
+ *   failures-first (default) - recently failed tests, then tests that never ran, then by failure rate,
+ *                              then shortest first, so a broken build shows up in the first minutes
+ *   longest-first            - longest tests first, so parallel forks and threads finish together
+ *   none                     - JUnit's default order
+ */
+public class HistoryOrderer implements ClassOrderer, MethodOrderer {
+
+    public enum Mode {
+        FAILURES_FIRST, LONGEST_FIRST, NONE;
+
+        public static Mode fromProperty() {
+            String value = System.getProperty("test.order", "failures-first");
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("❌ Unknown test.order '" + value
+                        + "', expected failures-first, longest-first or none", e);
+            }
+        }
+    }
+
+    /** Loaded once per JVM; the listener only appends after the run. */
+    private static final class Holder {
+        static final TestHistory HISTORY = TestHistory.load(TestHistory.defaultFile());
+    }
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        Mode mode = Mode.fromProperty();
+        if (mode == Mode.NONE || Holder.HISTORY.isEmpty()) {
+            return;
+        }
+        Comparator<String> order = comparator(mode, Holder.HISTORY::classStats);
+        context.getClassDescriptors().sort(Comparator.comparing(
+                (ClassDescriptor descriptor) -> descriptor.getTestClass().getName(), order));
+    }
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        Mode mode = Mode.fromProperty();
+        if (mode == Mode.NONE || Holder.HISTORY.isEmpty()) {
+            return;
+        }
+        Comparator<String> order = comparator(mode, Holder.HISTORY::stats);
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(Comparator.comparing(
+                (MethodDescriptor descriptor) -> className + "#" + descriptor.getMethod().getName(), order));
+    }
+
+    /**
+     * Orders test keys by their history. Ties keep their original order, as List.sort is stable.
+     *
+     * @param stats history lookup; null means the test never ran
+     */
+    public static Comparator<String> comparator(Mode mode, Function<String, TestHistory.Stats> stats) {
+        return switch (mode) {
+            case FAILURES_FIRST -> Comparator.comparingInt((String key) -> failureRank(stats.apply(key)))
+                    .thenComparing(key -> failureRate(stats.apply(key)), Comparator.reverseOrder())
+                    .thenComparingDouble(key -> millis(stats.apply(key), 0));
+            case LONGEST_FIRST -> Comparator.comparingDouble((String key) -> -millis(stats.apply(key), Double.MAX_VALUE));
+            case NONE -> (a, b) -> 0;
+        };
+    }
+
+    /** 0 = failed recently, 1 = new test (unknown risk), 2 = known. */
+    private static int failureRank(TestHistory.Stats stats) {
+        if (stats == null) {
+            return 1;
+        }
+        return stats.recentlyFailed() ? 0 : 2;
+    }
+
+    private static double failureRate(TestHistory.Stats stats) {
+        return stats == null ? 0 : stats.failureRate();
+    }
+
+    /** New tests are assumed to be slow in longest-first mode, so they never end up as the long tail. */
+    private static double millis(TestHistory.Stats stats, double unknown) {
+        return stats == null ? unknown : stats.meanMillis();
+    }
+}
@@ -0,0 +1,204 @@
+package com.skillboost.common.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only history of test outcomes and durations, one JSON object per line:
+ *   {"timestamp":1760000000000,"test":"com.skillboost.ui_tests.tests.LoginTest#testValidLogin","status":"SUCCESSFUL","millis":5321}
+ *
+ * Tests are keyed by class and method name, so parameterized and repeated invocations share a key.
+ * Only the newest {@link #WINDOW} outcomes of a test count. Parallel forks append under a file lock,
+ * and the file is compacted to that window once it exceeds test.history.maxLines (default 50000).
+ * Lives outside target/ (test.history.file, default .test-history/history.jsonl) so that
+ * mvn clean keeps it and CI can cache it.
+ */
+public final class TestHistory {
+
+    public static final int WINDOW = 20;
+    /** A failure within this many of the newest runs counts as "recently failed". */
+    public static final int RECENT_RUNS = 3;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_LINES = Integer.getInteger("test.history.maxLines", 50_000);
+
+    private final Map<String, Deque<Entry>> byTest = new HashMap<>();
+
+    public record Entry(long timestamp, String test, String status, long millis) {
+
+        public boolean failed() {
+            return "FAILED".equals(status);
+        }
+    }
+
+    /**
+     * Aggregated history of one test (or of all tests of a class).
+     *
+     * @param meanMillis mean duration of the successful runs, or of all runs if none succeeded
+     */
+    public record Stats(int runs, int failures, boolean recentlyFailed, double meanMillis) {
+
+        public double failureRate() {
+            return runs == 0 ? 0 : (double) failures / runs;
+        }
+    }
+
+    public TestHistory(List<Entry> entries) {
+        for (Entry entry : entries) {
+            Deque<Entry> window = byTest.computeIfAbsent(entry.test(), k -> new ArrayDeque<>());
+            window.addLast(entry);
+            if (window.size() > WINDOW) {
+                window.removeFirst();
+            }
+        }
+    }
+
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("test.history.file", ".test-history/history.jsonl"));
+    }
+
+    /**
+     * Reads the history file; a missing file is an empty history and unreadable lines are skipped.
+     */
+    public static TestHistory load(Path file) {
+        if (!Files.exists(file)) {
+            return new TestHistory(List.of());
+        }
+        try {
+            return new TestHistory(parse(Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read test history " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends the entries in one locked write, compacting the file first when it has grown too long.
+     */
+    public static void append(Path file, List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                StringBuilder out = new StringBuilder();
+                if (channel.size() > 0 && !endsWithNewline(channel)) {
+                    out.append('\n'); // keep a torn line from swallowing the first new entry
+                }
+                if (lines.size() + entries.size() > MAX_LINES) {
+                    out.setLength(0);
+                    for (Deque<Entry> window : new TestHistory(parse(lines)).byTest.values()) {
+                        for (Entry entry : window) {
+                            out.append(MAPPER.writeValueAsString(entry)).append('\n');
+                        }
+                    }
+                    channel.truncate(0);
+                }
+                for (Entry entry : entries) {
+                    out.append(MAPPER.writeValueAsString(entry)).append('\n');
+                }
+                channel.position(channel.size());
+                channel.write(ByteBuffer.wrap(out.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to append test history " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the history of one test (Class#method), or null if it never ran
+     */
+    public Stats stats(String test) {
+        Deque<Entry> window = byTest.get(test);
+        return window == null ? null : aggregate(new ArrayList<>(window));
+    }
+
+    /**
+     * @return the combined history of all methods of a class (durations are summed), or null if none ran
+     */
+    public Stats classStats(String className) {
+        String prefix = className + "#";
+        int runs = 0;
+        int failures = 0;
+        boolean recentlyFailed = false;
+        double totalMillis = 0;
+        boolean any = false;
+        for (Map.Entry<String, Deque<Entry>> test : byTest.entrySet()) {
+            if (!test.getKey().startsWith(prefix)) {
+                continue;
+            }
+            Stats stats = aggregate(new ArrayList<>(test.getValue()));
+            runs += stats.runs();
+            failures += stats.failures();
+            recentlyFailed |= stats.recentlyFailed();
+            totalMillis += stats.meanMillis();
+            any = true;
+        }
+        return any ? new Stats(runs, failures, recentlyFailed, totalMillis) : null;
+    }
+
+    public boolean isEmpty() {
+        return byTest.isEmpty();
+    }
+
+    private static Stats aggregate(List<Entry> window) {
+        int failures = 0;
+        boolean recentlyFailed = false;
+        long successMillis = 0;
+        int successes = 0;
+        long allMillis = 0;
+        for (int i = 0; i < window.size(); i++) {
+            Entry entry = window.get(i);
+            allMillis += entry.millis();
+            if (entry.failed()) {
+                failures++;
+                recentlyFailed |= i >= window.size() - RECENT_RUNS;
+            } else if ("SUCCESSFUL".equals(entry.status())) {
+                successMillis += entry.millis();
+                successes++;
+            }
+        }
+        // Failed runs often stop early or hit a timeout, so they say little about how long the test takes
+        double meanMillis = successes > 0 ? (double) successMillis / successes : (double) allMillis / window.size();
+        return new Stats(window.size(), failures, recentlyFailed, meanMillis);
+    }
+
+    private static boolean endsWithNewline(FileChannel channel) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, channel.size() - 1);
+        return last.get(0) == '\n';
+    }
+
+    private static List<Entry> parse(List<String> lines) {
+        List<Entry> entries = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(MAPPER.readValue(line, Entry.class));
+            } catch (IOException e) {
+                // A fork killed mid-write leaves a torn last line; the rest of the history is still good
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,65 @@
+package com.skillboost.common.history;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the outcome and duration of every test method into {@link TestHistory} when the test plan
+ * finishes, for {@link HistoryOrderer}. Registered in META-INF/services; -Dtest.history.record=false
+ * turns it off (e.g. for local runs of a single test).
+ */
+public class TestHistoryListener implements TestExecutionListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("test.history.record", "true"));
+
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private final Queue<TestHistory.Entry> entries = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (ENABLED && testIdentifier.isTest()) {
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = startTimes.remove(testIdentifier.getUniqueId());
+        if (start == null) {
+            return;
+        }
+        testIdentifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .ifPresent(source -> entries.add(new TestHistory.Entry(System.currentTimeMillis(),
+                        source.getClassName() + "#" + source.getMethodName(),
+                        result.getStatus().name(),
+                        (System.nanoTime() - start) / 1_000_000)));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!ENABLED || entries.isEmpty()) {
+            return;
+        }
+        Path file = TestHistory.defaultFile();
+        try {
+            TestHistory.append(file, List.copyOf(entries));
+            System.out.println("🗂️ Test history updated with " + entries.size() + " results → " + file);
+        } catch (RuntimeException e) {
+            // Losing one run's history only makes the next ordering slightly worse
+            System.out.println("⚠️ " + e.getMessage());
+        }
+        entries.clear();
+    }
+}
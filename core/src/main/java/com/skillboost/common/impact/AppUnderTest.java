@@ -0,0 +1,18 @@
+package com.skillboost.common.impact;
+
+/**
+ * The application a test module runs against, for keying {@link TestResultCache} on its deployed build.
+ * Each test module registers one in META-INF/services; a module without one (core) tests no application.
+ */
+public interface AppUnderTest {
+
+    String baseUrl();
+
+    /**
+     * @return an id of the deployed build; by default derived from its start page
+     * @throws IllegalStateException if it cannot be determined
+     */
+    default String version() {
+        return InputFingerprint.appVersion(baseUrl());
+    }
+}
@@ -0,0 +1,48 @@
+package com.skillboost.common.impact;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the UTF-8 entries of a class file's constant pool. They hold every class the class refers to
+ * (type references, method and field descriptors, annotations) and every string literal, which is
+ * all {@link ImpactIndex} needs, without a bytecode library.
+ */
+final class ClassFileReferences {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private ClassFileReferences() {
+        // Prevent instantiation
+    }
+
+    static List<String> utf8Constants(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(classFile);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int count = in.readUnsignedShort();
+        List<String> constants = new ArrayList<>(count);
+        for (int index = 1; index < count; index++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> constants.add(in.readUTF()); // Utf8: u2 length + modified UTF-8, as readUTF expects
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4); // Integer, Float, *ref, NameAndType, (Invoke)Dynamic
+                case 5, 6 -> { // Long, Double take two slots
+                    in.skipNBytes(8);
+                    index++;
+                }
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2); // Class, String, MethodType, Module, Package
+                case 15 -> in.skipNBytes(3); // MethodHandle
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at index " + index);
+            }
+        }
+        return constants;
+    }
+}
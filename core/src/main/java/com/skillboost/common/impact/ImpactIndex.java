@@ -0,0 +1,449 @@
+package com.skillboost.common.impact;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Which sources and resources each test class depends on, for running only the tests affected by a change.
+ *
+ * Built from two sources:
+ *   - bytecode: every com.skillboost class referenced from a class's constant pool, followed
+ *     transitively (test → page objects → UiBasePage → WaitUtils ...), plus string literals that
+ *     name a data file ("signup-data.json", "ui-config.json")
+ *   - runtime: files and page objects recorded by {@link ImpactTracer} in earlier runs, for names
+ *     computed at runtime (schemas, data files built from parameters)
+ *
+ * Classes registered in META-INF/services (listeners that run around every test) and everything they
+ * reference are framework core: changing one of them, any pom.xml or the JUnit configuration selects the
+ * full suite. So does a change to a module this one depends on (core, or api-tests for perf), which is
+ * on the classpath but not in the scanned build output. Changes to modules that are not on the classpath
+ * and files outside src/ (docs, benchmarks, CI files) select nothing.
+ */
+public final class ImpactIndex {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String PACKAGE_PATH = "com/skillboost/";
+    private static final Pattern CLASS_REFERENCE = Pattern.compile(PACKAGE_PATH + "[A-Za-z0-9_/$]+");
+    private static final Pattern DATA_FILE = Pattern.compile("[\\w./-]+\\.(json|csv|properties|ya?ml|txt)");
+
+    /** module/src/(main|test)/(java|resources)/path, with an empty module for a single-module layout. */
+    private static final Pattern SOURCE_PATH = Pattern.compile("((?:.*/)?)src/(?:main|test)/(java|resources)/(.+)");
+    private static final List<String> CORE_RESOURCES = List.of("META-INF/", "junit-platform.properties");
+
+    /** Top-level class → top-level classes it references directly. */
+    private final Map<String, Set<String>> classReferences;
+    /** Top-level class → data file names in its string literals. */
+    private final Map<String, Set<String>> resourceReferences;
+    /** Test class → classes and resources traced while it ran. */
+    private final Map<String, Set<String>> runtime;
+    private final Set<String> coreClasses;
+
+    private ImpactIndex(Map<String, Set<String>> classReferences, Map<String, Set<String>> resourceReferences,
+                        Map<String, Set<String>> runtime, Set<String> coreRoots) {
+        this.classReferences = classReferences;
+        this.resourceReferences = resourceReferences;
+        this.runtime = runtime;
+        this.coreClasses = closure(coreRoots);
+    }
+
+    // ─────────────────────────────────────────────
+    // Building
+    // ─────────────────────────────────────────────
+
+    /**
+     * Scans compiled classes (e.g. target/classes and target/test-classes) and their META-INF/services registrations.
+     */
+    public static ImpactIndex scan(Path... classesDirs) {
+        return scan(List.of(classesDirs));
+    }
+
+    public static ImpactIndex scan(List<Path> classesDirs) {
+        Map<String, Set<String>> classReferences = new HashMap<>();
+        Map<String, Set<String>> resourceReferences = new HashMap<>();
+        Set<String> coreRoots = new HashSet<>();
+        for (Path classesDir : classesDirs) {
+            scan(classesDir, classReferences, resourceReferences, coreRoots);
+        }
+        return new ImpactIndex(classReferences, resourceReferences, Map.of(), coreRoots);
+    }
+
+    /**
+     * @return the module's build output to index: impact.classes (comma-separated), default
+     *         target/classes and target/test-classes, skipping directories that do not exist
+     */
+    public static List<Path> classesDirs() {
+        List<Path> dirs = new ArrayList<>();
+        for (String dir : System.getProperty("impact.classes", "target/classes,target/test-classes").split(",")) {
+            if (!dir.isBlank() && Files.isDirectory(Path.of(dir.strip()))) {
+                dirs.add(Path.of(dir.strip()));
+            }
+        }
+        return dirs;
+    }
+
+    private static void scan(Path classesDir, Map<String, Set<String>> classReferences,
+                             Map<String, Set<String>> resourceReferences, Set<String> coreRoots) {
+        try (Stream<Path> files = Files.walk(classesDir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".class"))::iterator) {
+                String relative = classesDir.relativize(file).toString().replace('\\', '/');
+                String owner = topLevel(relative.substring(0, relative.length() - ".class".length()).replace('/', '.'));
+                Set<String> classes = classReferences.computeIfAbsent(owner, k -> new HashSet<>());
+                Set<String> resources = resourceReferences.computeIfAbsent(owner, k -> new HashSet<>());
+
+                try (InputStream in = Files.newInputStream(file)) {
+                    for (String constant : ClassFileReferences.utf8Constants(in)) {
+                        Matcher reference = CLASS_REFERENCE.matcher(constant);
+                        while (reference.find()) {
+                            classes.add(topLevel(reference.group().replace('/', '.')));
+                        }
+                        if (DATA_FILE.matcher(constant).matches()) {
+                            resources.add(constant);
+                        }
+                    }
+                }
+                classes.remove(owner);
+            }
+
+            Path services = classesDir.resolve("META-INF/services");
+            if (Files.isDirectory(services)) {
+                try (Stream<Path> registrations = Files.list(services)) {
+                    for (Path registration : (Iterable<Path>) registrations::iterator) {
+                        for (String line : Files.readAllLines(registration, StandardCharsets.UTF_8)) {
+                            String name = line.strip();
+                            if (name.startsWith("com.skillboost.")) {
+                                coreRoots.add(topLevel(name));
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to scan test classes in " + classesDir.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return this index plus dependencies traced at runtime (test class → class names and resource paths)
+     */
+    public ImpactIndex withRuntime(Map<String, Set<String>> traced) {
+        Set<String> coreRoots = new HashSet<>(coreClasses);
+        return new ImpactIndex(classReferences, resourceReferences, traced, coreRoots);
+    }
+
+    // ─────────────────────────────────────────────
+    // Queries
+    // ─────────────────────────────────────────────
+
+    public boolean contains(String className) {
+        return classReferences.containsKey(topLevel(className));
+    }
+
+    /**
+     * @return the test class itself and every project class it reaches
+     */
+    public Set<String> classDependencies(String testClass) {
+        Set<String> roots = new HashSet<>();
+        roots.add(topLevel(testClass));
+        for (String traced : runtime.getOrDefault(testClass, Set.of())) {
+            if (contains(traced)) {
+                roots.add(topLevel(traced));
+            }
+        }
+        return closure(roots);
+    }
+
+    /**
+     * @return data files named by the test's classes (bare file names) or traced at runtime (resource paths)
+     */
+    public Set<String> resourceDependencies(String testClass) {
+        Set<String> resources = new TreeSet<>();
+        for (String dependency : classDependencies(testClass)) {
+            resources.addAll(resourceReferences.getOrDefault(dependency, Set.of()));
+        }
+        for (String traced : runtime.getOrDefault(testClass, Set.of())) {
+            if (!contains(traced)) {
+                resources.add(traced);
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Classifies changed files into a test selection for one module.
+     *
+     * @param changedFiles paths from the repository root, as printed by git
+     * @param module       this module's directory from the repository root ("ui-tests/"; "" for the root)
+     */
+    public Selection select(Collection<String> changedFiles, String module) {
+        List<String> corePaths = new ArrayList<>();
+        for (String extra : System.getProperty("impact.core", "").split(",")) {
+            if (!extra.isBlank()) {
+                corePaths.add(extra.strip());
+            }
+        }
+
+        Set<String> classes = new TreeSet<>();
+        Set<String> resources = new TreeSet<>();
+        for (String changed : changedFiles) {
+            String path = changed.replace('\\', '/');
+            if (path.equals("pom.xml") || path.endsWith("/pom.xml")) {
+                return Selection.all(path + " is build configuration");
+            }
+            for (String core : corePaths) {
+                if (path.equals(core) || path.startsWith(core)) {
+                    return Selection.all(path + " is framework configuration");
+                }
+            }
+            Matcher source = SOURCE_PATH.matcher(path);
+            if (!source.matches()) {
+                continue;
+            }
+            boolean java = source.group(2).equals("java");
+            String relative = source.group(3);
+            boolean ownModule = source.group(1).equals(module);
+
+            if (java && relative.endsWith(".java")) {
+                String className = relative.substring(0, relative.length() - ".java".length()).replace('/', '.');
+                if (!ownModule) {
+                    if (onClasspath(relative.substring(0, relative.length() - ".java".length()) + ".class")) {
+                        return Selection.all(className + " is in a module this one depends on");
+                    }
+                } else if (coreClasses.contains(className)) {
+                    return Selection.all(className + " is framework core (used by a registered listener)");
+                } else {
+                    classes.add(className);
+                }
+            } else if (!java) {
+                for (String core : CORE_RESOURCES) {
+                    if (relative.equals(core) || relative.startsWith(core)) {
+                        return Selection.all(path + " is framework configuration");
+                    }
+                }
+                if (ownModule) {
+                    resources.add(relative);
+                } else if (onClasspath(relative)) {
+                    return Selection.all(relative + " is in a module this one depends on");
+                }
+            }
+        }
+        return new Selection(this, false, null, classes, resources);
+    }
+
+    private static boolean onClasspath(String resource) {
+        return ImpactIndex.class.getClassLoader().getResource(resource) != null;
+    }
+
+    /**
+     * The tests to run for a set of changes.
+     */
+    public static final class Selection {
+
+        private final ImpactIndex index;
+        private final boolean runAll;
+        private final String reason;
+        private final Set<String> changedClasses;
+        private final Set<String> changedResources;
+
+        private Selection(ImpactIndex index, boolean runAll, String reason,
+                          Set<String> changedClasses, Set<String> changedResources) {
+            this.index = index;
+            this.runAll = runAll;
+            this.reason = reason;
+            this.changedClasses = changedClasses;
+            this.changedResources = changedResources;
+        }
+
+        public static Selection all(String reason) {
+            return new Selection(null, true, reason, Set.of(), Set.of());
+        }
+
+        public boolean runsAll() {
+            return runAll;
+        }
+
+        public String reason() {
+            return reason;
+        }
+
+        public Set<String> changedClasses() {
+            return changedClasses;
+        }
+
+        public Set<String> changedResources() {
+            return changedResources;
+        }
+
+        /**
+         * A test class runs when it or anything it reaches changed, or when it is not in the index (new test).
+         */
+        public boolean includes(String testClass) {
+            if (runAll || !index.contains(testClass)) {
+                return true;
+            }
+            Set<String> classes = index.classDependencies(testClass);
+            for (String changed : changedClasses) {
+                if (classes.contains(changed)) {
+                    return true;
+                }
+            }
+            Set<String> resources = index.resourceDependencies(testClass);
+            for (String changed : changedResources) {
+                for (String resource : resources) {
+                    if (changed.equals(resource) || changed.endsWith("/" + resource)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Runtime trace files
+    // ─────────────────────────────────────────────
+
+    public static Path runtimeDir() {
+        return Path.of(System.getProperty("impact.dir", "target/impact"));
+    }
+
+    /**
+     * @return the union of all runtime-*.json files in the directory (empty when there are none)
+     */
+    public static Map<String, Set<String>> readRuntime(Path dir) {
+        Map<String, Set<String>> traced = new TreeMap<>();
+        if (!Files.isDirectory(dir)) {
+            return traced;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.getFileName().toString().matches("runtime-.*\\.json"))::iterator) {
+                read(file).forEach((test, dependencies) -> traced.computeIfAbsent(test, k -> new TreeSet<>()).addAll(dependencies));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read runtime impact traces in " + dir.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+        return traced;
+    }
+
+    /**
+     * Adds newly traced dependencies to a runtime file. Earlier entries are kept, so that a run
+     * that selected only some tests does not forget the others.
+     */
+    static void mergeRuntime(Path file, Map<String, Set<String>> recorded) {
+        try {
+            Map<String, Set<String>> merged = new TreeMap<>();
+            if (Files.exists(file)) {
+                read(file).forEach((test, dependencies) -> merged.computeIfAbsent(test, k -> new TreeSet<>()).addAll(dependencies));
+            }
+            recorded.forEach((test, dependencies) -> merged.computeIfAbsent(test, k -> new TreeSet<>()).addAll(dependencies));
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            MAPPER.writeValue(temp.toFile(), merged);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to write runtime impact trace " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Set<String>> read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Set<String>>>() {});
+    }
+
+    // ─────────────────────────────────────────────
+    // Git
+    // ─────────────────────────────────────────────
+
+    /**
+     * Files changed since a revision, in every module: committed, staged and unstaged changes plus
+     * untracked files, relative to the repository root.
+     */
+    public static List<String> changedFiles(String since) {
+        String root = git("rev-parse", "--show-toplevel").get(0);
+        List<String> files = new ArrayList<>(git("-C", root, "diff", "--name-only", since));
+        files.addAll(git("-C", root, "ls-files", "--others", "--exclude-standard"));
+        return files;
+    }
+
+    /**
+     * @return the working directory's module from the repository root, e.g. "ui-tests/" ("" at the root)
+     */
+    public static String modulePrefix() {
+        List<String> prefix = git("rev-parse", "--show-prefix");
+        return prefix.isEmpty() ? "" : prefix.get(0);
+    }
+
+    private static List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = out.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        lines.add(line.strip());
+                    }
+                }
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IllegalStateException("❌ '" + String.join(" ", command) + "' failed");
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not run '" + String.join(" ", command) + "' → " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("❌ Interrupted while running '" + String.join(" ", command) + "'", e);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Graph
+    // ─────────────────────────────────────────────
+
+    private Set<String> closure(Set<String> roots) {
+        Set<String> reached = new HashSet<>(roots);
+        Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            for (String next : classReferences.getOrDefault(pending.pop(), Set.of())) {
+                if (reached.add(next)) {
+                    pending.push(next);
+                }
+            }
+        }
+        return reached;
+    }
+
+    private static String topLevel(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+}
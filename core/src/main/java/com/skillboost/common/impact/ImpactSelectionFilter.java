@@ -0,0 +1,78 @@
+package com.skillboost.common.impact;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.List;
+
+/**
+ * Runs only the test classes affected by the files changed since -Dimpact.since=&lt;git revision&gt;
+ * (e.g. origin/main), using an {@link ImpactIndex} built from the module's target/classes and
+ * target/test-classes (impact.classes) and the runtime traces of earlier runs. Registered in
+ * META-INF/services; without impact.since every test runs. If the index or git is unavailable, or
+ * framework core or a module this one depends on changed, the full suite runs.
+ */
+public class ImpactSelectionFilter implements PostDiscoveryFilter {
+
+    private static final String SINCE = System.getProperty("impact.since", "").strip();
+
+    private static volatile ImpactIndex.Selection selection;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (SINCE.isEmpty()) {
+            return FilterResult.included("impact selection is off");
+        }
+        String testClass = descriptor.getSource().map(ImpactSelectionFilter::testClass).orElse(null);
+        if (testClass == null) {
+            return FilterResult.included("not a test class");
+        }
+        return selection().includes(testClass)
+                ? FilterResult.included("affected by changes since " + SINCE)
+                : FilterResult.excluded("not affected by changes since " + SINCE);
+    }
+
+    private static ImpactIndex.Selection selection() {
+        if (selection == null) {
+            synchronized (ImpactSelectionFilter.class) {
+                if (selection == null) {
+                    selection = computeSelection();
+                }
+            }
+        }
+        return selection;
+    }
+
+    private static ImpactIndex.Selection computeSelection() {
+        try {
+            List<String> changed = ImpactIndex.changedFiles(SINCE);
+            ImpactIndex index = ImpactIndex.scan(ImpactIndex.classesDirs())
+                    .withRuntime(ImpactIndex.readRuntime(ImpactIndex.runtimeDir()));
+            ImpactIndex.Selection result = index.select(changed, ImpactIndex.modulePrefix());
+            if (result.runsAll()) {
+                System.out.println("🎯 Impact selection since " + SINCE + ": full suite → " + result.reason());
+            } else {
+                System.out.println("🎯 Impact selection since " + SINCE + ": " + changed.size() + " changed files → classes "
+                        + result.changedClasses() + ", resources " + result.changedResources());
+            }
+            return result;
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Impact selection unavailable, running the full suite → " + e.getMessage());
+            return ImpactIndex.Selection.all(e.getMessage());
+        }
+    }
+
+    private static String testClass(TestSource source) {
+        if (source instanceof MethodSource method) {
+            return method.getClassName();
+        }
+        if (source instanceof ClassSource type) {
+            return type.getClassName();
+        }
+        return null;
+    }
+}
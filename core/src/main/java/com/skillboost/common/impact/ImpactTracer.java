@@ -0,0 +1,62 @@
+package com.skillboost.common.impact;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime half of the impact index: records which test-data files, schemas and page objects the
+ * running test class actually used, including ones whose names are computed at runtime and so are
+ * invisible to the bytecode scan. Readers call {@link #touch}; {@link ImpactTracingListener} tells the
+ * tracer which test class runs on the current thread and persists what was recorded.
+ */
+public final class ImpactTracer {
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("impact.trace", "true"));
+
+    private static final String RESOURCES_ROOT = "src/test/resources/";
+
+    private static final ThreadLocal<String> currentTestClass = new ThreadLocal<>();
+    private static final Map<String, Set<String>> touched = new ConcurrentHashMap<>();
+
+    private ImpactTracer() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Records a resource used by the current test, as a classpath path ("ui/testdata/login-data.json")
+     * or a path from the project root ("src/test/resources/api/testdata/user_test_data.json").
+     */
+    public static void touch(String resource) {
+        String testClass = currentTestClass.get();
+        if (!ENABLED || testClass == null) {
+            return;
+        }
+        String path = resource.replace('\\', '/');
+        int root = path.indexOf(RESOURCES_ROOT);
+        touched.computeIfAbsent(testClass, k -> ConcurrentHashMap.newKeySet())
+                .add(root >= 0 ? path.substring(root + RESOURCES_ROOT.length()) : path);
+    }
+
+    /**
+     * Records a class used by the current test (e.g. a page object created through a supertype).
+     */
+    public static void touch(Class<?> type) {
+        String testClass = currentTestClass.get();
+        if (ENABLED && testClass != null) {
+            touched.computeIfAbsent(testClass, k -> ConcurrentHashMap.newKeySet()).add(type.getName());
+        }
+    }
+
+    static void enter(String testClass) {
+        currentTestClass.set(testClass);
+    }
+
+    static void exit() {
+        currentTestClass.remove();
+    }
+
+    static Map<String, Set<String>> recorded() {
+        return touched;
+    }
+}
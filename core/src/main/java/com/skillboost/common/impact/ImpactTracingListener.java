@@ -0,0 +1,59 @@
+package com.skillboost.common.impact;
+
+import com.skillboost.common.accounts.TestAccountFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+
+/**
+ * Attributes {@link ImpactTracer} records to the test class running on the current thread and merges
+ * them into impact.dir/runtime-w&lt;worker&gt;.json (default target/impact) when the test plan finishes.
+ * Registered in META-INF/services; does nothing when -Dimpact.trace=false.
+ */
+public class ImpactTracingListener implements TestExecutionListener {
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        // Class-level events cover @BeforeAll, method-level ones the test thread of each method
+        if (ImpactTracer.ENABLED) {
+            testIdentifier.getSource().map(ImpactTracingListener::testClass).ifPresent(ImpactTracer::enter);
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        if (ImpactTracer.ENABLED && testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent()) {
+            ImpactTracer.exit();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!ImpactTracer.ENABLED || ImpactTracer.recorded().isEmpty()) {
+            return;
+        }
+        Path file = ImpactIndex.runtimeDir().resolve("runtime-w" + TestAccountFactory.workerId() + ".json");
+        try {
+            ImpactIndex.mergeRuntime(file, ImpactTracer.recorded());
+        } catch (RuntimeException e) {
+            // Selection still works from the bytecode scan alone
+            System.out.println("⚠️ " + e.getMessage());
+        }
+    }
+
+    private static String testClass(TestSource source) {
+        if (source instanceof MethodSource method) {
+            return method.getClassName();
+        }
+        if (source instanceof ClassSource type) {
+            return type.getClassName();
+        }
+        return null;
+    }
+}
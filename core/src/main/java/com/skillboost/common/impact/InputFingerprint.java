@@ -0,0 +1,221 @@
+package com.skillboost.common.impact;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * SHA-256 over everything a test class's outcome depends on:
+ *   - the bytecode of the test class and every project class it reaches ({@link ImpactIndex}),
+ *     including nested and anonymous classes
+ *   - the contents of the data and config files it names or was traced reading
+ *   - the module's and the parent pom.xml (its junit-platform.properties is in src/test/resources),
+ *     and the build output of the SkillBoost modules it depends on (core, api-tests for perf)
+ *   - the target environment (system properties that pick environment, browser and grid)
+ *   - the version of the application under test
+ *
+ * Any change to one of these gives the test a new fingerprint, so {@link TestResultCache} runs it again.
+ */
+public final class InputFingerprint {
+
+    private static final List<String> ENVIRONMENT_PROPERTIES = List.of(
+            "environment", "api.environment", "api.baseUrl", "browser", "headless", "remote", "gridUrl", "api.vcr.mode");
+    private static final List<String> BUILD_FILES = List.of("pom.xml", "../pom.xml");
+    /** Sibling modules on the test classpath: reactor target/classes dirs or installed skillboost-* jars. */
+    private static final Pattern MODULE_ENTRY = Pattern.compile(".*(?:[/\\\\]target[/\\\\]classes|skillboost-[\\w.-]+\\.jar)");
+    /** Fingerprinted asset URLs (main.3f9a1c.js) change with every deploy, unlike the rest of the page. */
+    private static final Pattern ASSET = Pattern.compile("(?:src|href)=[\"']([^\"']+\\.(?:js|css)(?:\\?[^\"']*)?)[\"']");
+
+    private final ImpactIndex index;
+    private final byte[] globalDigest;
+    private final Map<String, List<Path>> classFiles = new HashMap<>();
+    /** Resource path → file, over all resource roots. */
+    private final Map<String, Path> resources = new TreeMap<>();
+    private final Map<String, String> byTestClass = new ConcurrentHashMap<>();
+    private final Map<Path, byte[]> fileDigests = new ConcurrentHashMap<>();
+
+    /**
+     * @param classesDirs   the module's build output, as scanned into the index
+     * @param resourceRoots the module's source resource directories (src/main/resources, src/test/resources)
+     */
+    public InputFingerprint(ImpactIndex index, List<Path> classesDirs, List<Path> resourceRoots, String appVersion) {
+        this.index = index;
+        try {
+            for (Path classesDir : classesDirs) {
+                try (Stream<Path> files = Files.walk(classesDir)) {
+                    files.filter(f -> f.toString().endsWith(".class")).sorted().forEach(file -> {
+                        String relative = classesDir.relativize(file).toString().replace('\\', '/');
+                        String name = relative.substring(0, relative.length() - ".class".length()).replace('/', '.');
+                        int nested = name.indexOf('$');
+                        classFiles.computeIfAbsent(nested < 0 ? name : name.substring(0, nested), k -> new ArrayList<>()).add(file);
+                    });
+                }
+            }
+            for (Path resourcesRoot : resourceRoots) {
+                if (Files.isDirectory(resourcesRoot)) {
+                    try (Stream<Path> resourceFiles = Files.walk(resourcesRoot)) {
+                        resourceFiles.filter(Files::isRegularFile).sorted().forEach(file ->
+                                resources.putIfAbsent(resourcesRoot.relativize(file).toString().replace('\\', '/'), file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to index test inputs → " + e.getMessage(), e);
+        }
+
+        MessageDigest global = sha256();
+        global.update(("app=" + appVersion + "\n").getBytes(StandardCharsets.UTF_8));
+        for (String property : ENVIRONMENT_PROPERTIES) {
+            global.update((property + "=" + System.getProperty(property, "") + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        global.update(("SELENIUM_REMOTE_URL=" + System.getenv().getOrDefault("SELENIUM_REMOTE_URL", "") + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        for (String file : BUILD_FILES) {
+            Path path = Path.of(file);
+            if (Files.exists(path)) {
+                global.update(digest(path));
+            }
+        }
+        for (Path module : dependencyModules(classesDirs)) {
+            global.update(module.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            global.update(digestTree(module));
+        }
+        this.globalDigest = global.digest();
+    }
+
+    /**
+     * @return SkillBoost modules on the test classpath other than the scanned ones, in classpath order
+     */
+    private static List<Path> dependencyModules(List<Path> classesDirs) {
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path", ""));
+        List<Path> own = classesDirs.stream().map(dir -> dir.toAbsolutePath().normalize()).toList();
+        List<Path> modules = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isBlank() || !MODULE_ENTRY.matcher(entry).matches()) {
+                continue;
+            }
+            Path path = Path.of(entry).toAbsolutePath().normalize();
+            if (!own.contains(path) && Files.exists(path)) {
+                modules.add(path);
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * @return hex fingerprint of the inputs of a test class, computed once per class
+     */
+    public String of(String testClass) {
+        return byTestClass.computeIfAbsent(testClass, this::compute);
+    }
+
+    private String compute(String testClass) {
+        MessageDigest digest = sha256();
+        digest.update(globalDigest);
+        for (String dependency : new TreeSet<>(index.classDependencies(testClass))) {
+            for (Path file : classFiles.getOrDefault(dependency, List.of())) {
+                digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(digest(file));
+            }
+        }
+        for (String dependency : index.resourceDependencies(testClass)) {
+            resources.forEach((resource, file) -> {
+                if (resource.equals(dependency) || resource.endsWith("/" + dependency)) {
+                    digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                    digest.update(digest(file));
+                }
+            });
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private byte[] digest(Path file) {
+        return fileDigests.computeIfAbsent(file, f -> {
+            try {
+                return sha256().digest(Files.readAllBytes(f));
+            } catch (IOException e) {
+                throw new RuntimeException("❌ Failed to read " + f.toAbsolutePath() + " → " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * @return digest of a jar, or of every file in a class directory (relative names and contents)
+     */
+    private byte[] digestTree(Path module) {
+        if (Files.isRegularFile(module)) {
+            return digest(module);
+        }
+        MessageDigest tree = sha256();
+        try (Stream<Path> files = Files.walk(module)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                tree.update(module.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                tree.update(digest(file));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read " + module + " → " + e.getMessage(), e);
+        }
+        return tree.digest();
+    }
+
+    /**
+     * Identifies the deployed application build from its start page: the fingerprinted script and
+     * style URLs if there are any, the whole page otherwise.
+     *
+     * @throws IllegalStateException if the page cannot be fetched
+     */
+    public static String appVersion(String url) {
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("❌ " + url + " returned HTTP " + response.statusCode());
+            }
+            StringBuilder assets = new StringBuilder();
+            Matcher asset = ASSET.matcher(response.body());
+            while (asset.find()) {
+                assets.append(asset.group(1)).append('\n');
+            }
+            String source = assets.isEmpty() ? response.body() : assets.toString();
+            return HexFormat.of().formatHex(sha256().digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("❌ Could not fetch app version from " + url + " → " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("❌ Interrupted while fetching app version from " + url, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("❌ SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.skillboost.common.impact;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skips tests that passed before with exactly the same inputs ({@link InputFingerprint}: bytecode of
+ * everything the test reaches, its data files, the environment and the deployed app version).
+ * Only passes are cached; a failed or aborted test, or a class whose setup failed, runs again next time.
+ *
+ * Registered for every test through extension auto-detection (each module's test
+ * junit-platform.properties and core's META-INF/services), but off unless asked for: a cached test is reported as skipped, which in CI
+ * reads as lost coverage. Meant for local edit-and-rerun loops. Settings:
+ *   -Dtest.cache.enabled=true    read and write the cache (default false)
+ *   -Dtest.cache.bypass=true     run everything, but still refresh the cache
+ *   -Dtest.cache.appVersion=...  app build id to key on (default: fetched from test.cache.appUrl, or
+ *                                from the module's {@link AppUnderTest}); the cache is off when it cannot
+ *                                be determined
+ *   -Dtest.cache.file=...        default .test-history/result-cache.json
+ */
+public class TestResultCache implements ExecutionCondition, TestWatcher, AfterAllCallback {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("test.cache.enabled", "false"));
+    private static final boolean BYPASS = Boolean.getBoolean("test.cache.bypass");
+    private static final Path FILE = Path.of(System.getProperty("test.cache.file", ".test-history/result-cache.json"));
+
+    private static final Namespace NAMESPACE = Namespace.create(TestResultCache.class);
+    private static final String FINGERPRINT = "fingerprint";
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * A cached pass.
+     */
+    public record Entry(String fingerprint, long passedAt) {
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (!ENABLED || context.getTestMethod().isEmpty()) {
+            return ConditionEvaluationResult.enabled("result cache does not apply");
+        }
+        Cache cache = cache(context);
+        if (cache.fingerprint == null) {
+            return ConditionEvaluationResult.enabled("result cache unavailable");
+        }
+        String fingerprint = cache.fingerprint.of(context.getRequiredTestClass().getName());
+        context.getStore(NAMESPACE).put(FINGERPRINT, fingerprint);
+
+        Entry entry = cache.entries.get(context.getUniqueId());
+        if (!BYPASS && entry != null && entry.fingerprint().equals(fingerprint)) {
+            return ConditionEvaluationResult.disabled("♻️ Passed at " + Instant.ofEpochMilli(entry.passedAt())
+                    + " with identical inputs (run anyway with -Dtest.cache.bypass=true)");
+        }
+        return ConditionEvaluationResult.enabled("inputs changed since the last pass");
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        String fingerprint = context.getStore(NAMESPACE).get(FINGERPRINT, String.class);
+        if (fingerprint != null) {
+            cache(context).updates.put(context.getUniqueId(), Optional.of(new Entry(fingerprint, System.currentTimeMillis())));
+        }
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        invalidate(context);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        invalidate(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        // A failing @BeforeAll/@AfterAll never reaches the per-test callbacks
+        if (ENABLED && context.getExecutionException().isPresent()) {
+            Cache cache = cache(context);
+            cache.entries.keySet().stream()
+                    .filter(id -> id.startsWith(context.getUniqueId()))
+                    .forEach(id -> cache.updates.put(id, Optional.empty()));
+        }
+    }
+
+    private static void invalidate(ExtensionContext context) {
+        if (ENABLED) {
+            cache(context).updates.put(context.getUniqueId(), Optional.empty());
+        }
+    }
+
+    private static Cache cache(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Cache.class, k -> new Cache(), Cache.class);
+    }
+
+    // ─────────────────────────────────────────────
+    // Cache file
+    // ─────────────────────────────────────────────
+
+    /**
+     * Cached passes as read at start-up, plus this JVM's changes, which are merged into the file
+     * under a lock when the engine closes the root store (parallel forks share the file).
+     */
+    private static final class Cache implements ExtensionContext.Store.CloseableResource {
+
+        final Map<String, Entry> entries;
+        final Map<String, Optional<Entry>> updates = new ConcurrentHashMap<>();
+        final InputFingerprint fingerprint;
+
+        Cache() {
+            entries = Files.exists(FILE) ? read() : Map.of();
+            fingerprint = createFingerprint();
+        }
+
+        private static InputFingerprint createFingerprint() {
+            try {
+                String appVersion = System.getProperty("test.cache.appVersion");
+                if (appVersion == null) {
+                    appVersion = appVersion();
+                }
+                List<Path> classes = ImpactIndex.classesDirs();
+                ImpactIndex index = ImpactIndex.scan(classes).withRuntime(ImpactIndex.readRuntime(ImpactIndex.runtimeDir()));
+                return new InputFingerprint(index, classes,
+                        List.of(Path.of("src/main/resources"), Path.of("src/test/resources")), appVersion);
+            } catch (RuntimeException | ExceptionInInitializerError e) {
+                // e.g. the app is down, or ui-config.json is broken: run everything rather than trust old passes
+                System.out.println("⚠️ Test result cache off for this run → " + e.getMessage());
+                return null;
+            }
+        }
+
+        private static String appVersion() {
+            String url = System.getProperty("test.cache.appUrl");
+            if (url != null) {
+                return InputFingerprint.appVersion(url);
+            }
+            return ServiceLoader.load(AppUnderTest.class).findFirst()
+                    .map(AppUnderTest::version)
+                    .orElse("none");
+        }
+
+        private static Map<String, Entry> read() {
+            try {
+                return MAPPER.readValue(FILE.toFile(), new TypeReference<TreeMap<String, Entry>>() {});
+            } catch (IOException e) {
+                System.out.println("⚠️ Ignoring unreadable test result cache " + FILE + " → " + e.getMessage());
+                return Map.of();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (updates.isEmpty()) {
+                return;
+            }
+            Path lockFile = FILE.resolveSibling(FILE.getFileName() + ".lock");
+            try {
+                Files.createDirectories(FILE.toAbsolutePath().getParent());
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    Map<String, Entry> merged = new TreeMap<>(Files.exists(FILE) ? read() : Map.of());
+                    updates.forEach((id, entry) -> {
+                        if (entry.isPresent()) {
+                            merged.put(id, entry.get());
+                        } else {
+                            merged.remove(id);
+                        }
+                    });
+                    Path temp = FILE.resolveSibling(FILE.getFileName() + ".tmp");
+                    MAPPER.writeValue(temp.toFile(), merged);
+                    Files.move(temp, FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                long cached = updates.values().stream().filter(Optional::isPresent).count();
+                System.out.println("♻️ Test result cache updated: " + cached + " passes cached, "
+                        + (updates.size() - cached) + " invalidated → " + FILE);
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not write test result cache " + FILE + " → " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.skillboost.common.testdata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only view over the test data artifact produced by {@link TestDataCompiler}.
+ *
+ * The artifact is memory-mapped once per JVM; lookups by file or by scenario key
+ * decode only the requested Smile blob. Every lookup falls back to an empty result
+ * when the artifact is missing, disabled, or older than its JSON source, so callers
+ * can always fall back to parsing the plain JSON file.
+ *
+ * The static lookups use the build's artifact; {@link #open} reads any artifact against any
+ * resources root (e.g. one compiled into a temporary directory).
+ *
+ * System properties:
+ *   testdata.compiled       - set to "false" to bypass the artifact entirely
+ *   testdata.compiled.path  - artifact location (default target/testdata/testdata.bin)
+ *   testdata.resources.root - JSON source root used for staleness checks (default src/test/resources)
+ */
+public final class CompiledTestData {
+
+    public static final String DEFAULT_PATH = "target/testdata/testdata.bin";
+    private static final String RESOURCES_ROOT = System.getProperty("testdata.resources.root", "src/test/resources");
+
+    private static final SmileMapper smileMapper = new SmileMapper();
+    private static volatile CompiledTestData instance;
+
+    private final MappedByteBuffer buffer;
+    private final Path resourcesRoot;
+    private final Map<String, long[]> sources;
+    private final Map<String, long[]> index;
+    private final Map<String, Boolean> freshness = new ConcurrentHashMap<>();
+
+    private CompiledTestData(MappedByteBuffer buffer, Path resourcesRoot, Map<String, long[]> sources, Map<String, long[]> index) {
+        this.buffer = buffer;
+        this.resourcesRoot = resourcesRoot;
+        this.sources = sources;
+        this.index = index;
+    }
+
+    // ─────────────────────────────────────────────
+    // Lookups
+    // ─────────────────────────────────────────────
+
+    /**
+     * Returns the full content of a compiled test data file.
+     *
+     * @param fileKey path relative to the resources root, e.g. "ui/testdata/login-data.json"
+     */
+    public static Optional<JsonNode> file(String fileKey) {
+        CompiledTestData data = get();
+        return data == null ? Optional.empty() : data.readFile(fileKey);
+    }
+
+    /**
+     * Returns a single top-level scenario of a compiled test data file without decoding the rest.
+     *
+     * @param fileKey  path relative to the resources root
+     * @param scenario top-level key, e.g. "validUser"
+     */
+    public static Optional<JsonNode> scenario(String fileKey, String scenario) {
+        CompiledTestData data = get();
+        return data == null ? Optional.empty() : data.readScenario(fileKey, scenario);
+    }
+
+    /** {@link #file} against this artifact; empty when it is missing or the JSON source changed. */
+    public Optional<JsonNode> readFile(String fileKey) {
+        return lookup(fileKey, fileKey);
+    }
+
+    /** {@link #scenario} against this artifact; empty when it is missing or the JSON source changed. */
+    public Optional<JsonNode> readScenario(String fileKey, String scenario) {
+        return lookup(fileKey, fileKey + TestDataCompiler.SCENARIO_SEPARATOR + scenario);
+    }
+
+    /**
+     * Converts a project-relative path ("src/test/resources/api/testdata/x.json")
+     * to the key used in the artifact ("api/testdata/x.json").
+     */
+    public static String keyFor(String path) {
+        String normalized = path.replace('\\', '/');
+        String prefix = RESOURCES_ROOT.replace('\\', '/') + "/";
+        return normalized.startsWith(prefix) ? normalized.substring(prefix.length()) : normalized;
+    }
+
+    private Optional<JsonNode> lookup(String fileKey, String entryKey) {
+        if (buffer == null || !isFresh(fileKey)) {
+            return Optional.empty();
+        }
+        long[] entry = index.get(entryKey);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        ByteBuffer slice = buffer.slice((int) entry[0], (int) entry[1]);
+        try {
+            return Optional.of(smileMapper.readTree(new ByteBufferBackedInputStream(slice)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode compiled test data entry: " + entryKey, e);
+        }
+    }
+
+    /** A file is only served from the artifact while its JSON source is unchanged. */
+    private boolean isFresh(String fileKey) {
+        return freshness.computeIfAbsent(fileKey, key -> {
+            long[] source = sources.get(key);
+            if (source == null) {
+                return false;
+            }
+            try {
+                Path json = resourcesRoot.resolve(key);
+                return Files.size(json) == source[0]
+                        && Files.getLastModifiedTime(json).toMillis() == source[1];
+            } catch (IOException e) {
+                return false;
+            }
+        });
+    }
+
+    // ─────────────────────────────────────────────
+    // Loading
+    // ─────────────────────────────────────────────
+
+    private static CompiledTestData get() {
+        if (!Boolean.parseBoolean(System.getProperty("testdata.compiled", "true"))) {
+            return null;
+        }
+        CompiledTestData data = instance;
+        if (data == null) {
+            synchronized (CompiledTestData.class) {
+                data = instance;
+                if (data == null) {
+                    data = open(Paths.get(System.getProperty("testdata.compiled.path", DEFAULT_PATH)), Paths.get(RESOURCES_ROOT));
+                    instance = data;
+                }
+            }
+        }
+        return data.buffer == null ? null : data;
+    }
+
+    /**
+     * Maps an artifact. A missing or incompatible artifact gives a view whose lookups are all empty.
+     *
+     * @param resourcesRoot root of the JSON sources, checked for changes since compilation
+     */
+    public static CompiledTestData open(Path artifact, Path resourcesRoot) {
+        if (!Files.isRegularFile(artifact)) {
+            return new CompiledTestData(null, resourcesRoot, Map.of(), Map.of());
+        }
+        try (FileChannel channel = FileChannel.open(artifact, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != TestDataCompiler.MAGIC || buffer.getInt() != TestDataCompiler.VERSION) {
+                System.out.println("⚠️ Ignoring incompatible test data artifact: " + artifact);
+                return new CompiledTestData(null, resourcesRoot, Map.of(), Map.of());
+            }
+
+            int sourceCount = buffer.getInt();
+            Map<String, long[]> sources = new HashMap<>(sourceCount * 2);
+            for (int i = 0; i < sourceCount; i++) {
+                sources.put(readUtf(buffer), new long[]{buffer.getLong(), buffer.getLong()});
+            }
+
+            int entryCount = buffer.getInt();
+            Map<String, long[]> index = new HashMap<>(entryCount * 2);
+            for (int i = 0; i < entryCount; i++) {
+                index.put(readUtf(buffer), new long[]{buffer.getLong(), buffer.getInt()});
+            }
+
+            return new CompiledTestData(buffer, resourcesRoot, sources, index);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to map compiled test data: " + artifact, e);
+        }
+    }
+
+    /** Mirrors DataOutputStream.writeUTF (keys are plain ASCII/BMP file and scenario names). */
+    private static String readUtf(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,178 @@
+package com.skillboost.common.testdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Build-time compiler for the JSON test data under src/test/resources.
+ *
+ * Validates every *.json file in the configured test data directories and writes
+ * a single indexed Smile artifact that {@link CompiledTestData} memory-maps at runtime.
+ * The JSON files remain the source of truth; the artifact is a disposable cache
+ * regenerated on every build (see the exec-maven-plugin execution in pom.xml).
+ *
+ * Layout:
+ *   magic "SBTD" | version | source table | index | Smile blobs
+ * where the index holds one entry per file ("ui/testdata/login-data.json") and one
+ * per top-level scenario ("ui/testdata/login-data.json#validUser").
+ */
+public final class TestDataCompiler {
+
+    static final int MAGIC = 0x53425444; // "SBTD"
+    static final int VERSION = 1;
+    static final String SCENARIO_SEPARATOR = "#";
+
+    /** Directories (relative to the resources root) that hold test data. */
+    static final List<String> DATA_DIRS = List.of("ui/testdata", "api/testdata");
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper()
+            .enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION)
+            .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    private static final SmileMapper smileMapper = new SmileMapper();
+
+    private TestDataCompiler() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Entry point used by the build.
+     *
+     * @param args [0] resources root (default src/test/resources),
+     *             [1] output artifact (default target/testdata/testdata.bin)
+     */
+    public static void main(String[] args) throws IOException {
+        Path resourcesRoot = Paths.get(args.length > 0 ? args[0] : "src/test/resources");
+        Path output = Paths.get(args.length > 1 ? args[1] : CompiledTestData.DEFAULT_PATH);
+
+        int files = compile(resourcesRoot, output);
+        System.out.println("✅ Compiled " + files + " test data file(s) → " + output);
+    }
+
+    /**
+     * Validates and compiles all test data files below the resources root.
+     *
+     * @return number of compiled source files
+     */
+    public static int compile(Path resourcesRoot, Path output) throws IOException {
+        List<Path> sources = collectSources(resourcesRoot);
+
+        List<SourceFile> sourceTable = new ArrayList<>();
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+
+        for (Path source : sources) {
+            String key = resourcesRoot.relativize(source).toString().replace('\\', '/');
+            JsonNode root;
+            try {
+                root = jsonMapper.readTree(source.toFile());
+            } catch (IOException e) {
+                errors.add(key + " → " + e.getMessage());
+                continue;
+            }
+            if (root == null || !root.isObject()) {
+                errors.add(key + " → root element must be a JSON object");
+                continue;
+            }
+
+            sourceTable.add(new SourceFile(key, Files.size(source), Files.getLastModifiedTime(source).toMillis()));
+            blobs.put(key, smileMapper.writeValueAsBytes(root));
+
+            Iterator<Map.Entry<String, JsonNode>> scenarios = root.fields();
+            while (scenarios.hasNext()) {
+                Map.Entry<String, JsonNode> scenario = scenarios.next();
+                blobs.put(key + SCENARIO_SEPARATOR + scenario.getKey(),
+                        smileMapper.writeValueAsBytes(scenario.getValue()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("❌ Invalid test data:\n - " + String.join("\n - ", errors));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Path tmp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            out.write(header(sourceTable, blobs));
+            for (byte[] blob : blobs.values()) {
+                out.write(blob);
+            }
+        }
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING);
+        return sourceTable.size();
+    }
+
+    private static List<Path> collectSources(Path resourcesRoot) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (String dir : DATA_DIRS) {
+            Path dataDir = resourcesRoot.resolve(dir);
+            if (!Files.isDirectory(dataDir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(dataDir)) {
+                files.filter(p -> p.toString().toLowerCase().endsWith(".json"))
+                        .sorted()
+                        .forEach(sources::add);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Serializes the header. Offsets are absolute, so the header size has to be known
+     * before they are written; it is computed from a first pass with zero offsets.
+     */
+    private static byte[] header(List<SourceFile> sourceTable, Map<String, byte[]> blobs) throws IOException {
+        int headerSize = writeHeader(sourceTable, blobs, 0).length;
+        return writeHeader(sourceTable, blobs, headerSize);
+    }
+
+    private static byte[] writeHeader(List<SourceFile> sourceTable, Map<String, byte[]> blobs, int baseOffset)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(sourceTable.size());
+        for (SourceFile source : sourceTable) {
+            out.writeUTF(source.key());
+            out.writeLong(source.size());
+            out.writeLong(source.lastModified());
+        }
+
+        out.writeInt(blobs.size());
+        long offset = baseOffset;
+        for (Map.Entry<String, byte[]> blob : blobs.entrySet()) {
+            out.writeUTF(blob.getKey());
+            out.writeLong(offset);
+            out.writeInt(blob.getValue().length);
+            offset += blob.getValue().length;
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    record SourceFile(String key, long size, long lastModified) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.skillboost.perf.baseline;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM-wide collector of latency samples for the regression gate, keyed by "category: name", e.g.
+ * "api: POST /auth/register", "ui: WebElement.click" or "test: UserApiTest#testRegister()".
+ *
+ * Each key keeps at most perf.maxSamples values (reservoir sampling), so long suites stay bounded.
+ * Written to target/perf by {@link PerfRecordingListener} when the test plan finishes.
+ *
+ * Tunable through system properties:
+ *   perf.record      - collect samples at all (default true)
+ *   perf.maxSamples  - samples kept per key and run (default 1000)
+ */
+public final class PerfRecorder {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("perf.record", "true"));
+    private static final int MAX_SAMPLES = Integer.getInteger("perf.maxSamples", 1000);
+
+    private static final Map<String, Reservoir> reservoirs = new ConcurrentHashMap<>();
+
+    private PerfRecorder() {
+        // Prevent instantiation
+    }
+
+    public static void record(String category, String name, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        reservoirs.computeIfAbsent(category + ": " + name, key -> new Reservoir(MAX_SAMPLES))
+                .add(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Copy of everything recorded so far, in microseconds, sorted by key.
+     */
+    public static PerfRun snapshot() {
+        Map<String, long[]> samples = new TreeMap<>();
+        reservoirs.forEach((key, reservoir) -> samples.put(key, reservoir.values()));
+        return new PerfRun(samples);
+    }
+
+    public static void reset() {
+        reservoirs.clear();
+    }
+
+    /**
+     * Algorithm R: every sample seen has the same chance of being kept.
+     */
+    private static final class Reservoir {
+
+        private final long[] values;
+        private long seen;
+
+        Reservoir(int capacity) {
+            this.values = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            if (seen < values.length) {
+                values[(int) seen] = value;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                if (slot < values.length) {
+                    values[(int) slot] = value;
+                }
+            }
+            seen++;
+        }
+
+        synchronized long[] values() {
+            long[] copy = new long[(int) Math.min(seen, values.length)];
+            System.arraycopy(values, 0, copy, 0, copy.length);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.skillboost.perf.baseline;
+
+import com.skillboost.common.accounts.TestAccountFactory;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times every successful test for {@link PerfRecorder} and writes this JVM's samples to
+ * perf.dir/run-&lt;runId&gt;-w&lt;worker&gt;.json (default target/perf) when the test plan finishes.
+ * The build passes -Dperf.runId (its start timestamp) to every fork and to {@link PerfRegressionGate},
+ * which merges only that run; without it the file is run-w&lt;worker&gt;.json, removed when the plan starts
+ * so a JVM that records nothing does not leave an older run behind.
+ * Registered in META-INF/services; does nothing when -Dperf.record=false.
+ *
+ * Also records the time from JVM start to the first test ("startup: JVM to first test"), which is mostly
+ * class loading: it grows with the module's classpath and shrinks with a class-data sharing archive
+ * (-Pcds). The classpath size and CDS state are printed next to it.
+ */
+public class PerfRecordingListener implements TestExecutionListener {
+
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private final AtomicBoolean firstTest = new AtomicBoolean(true);
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (!PerfRecorder.ENABLED) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(runFile());
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not remove stale performance samples → " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (PerfRecorder.ENABLED && testIdentifier.isTest()) {
+            if (firstTest.compareAndSet(true, false)) {
+                reportStartup();
+            }
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    private static void reportStartup() {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        PerfRecorder.record("startup", "JVM to first test", TimeUnit.MILLISECONDS.toNanos(uptimeMillis));
+
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path", ""));
+        int entries = 0;
+        long jarBytes = 0;
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            entries++;
+            File file = new File(entry);
+            if (file.isFile()) {
+                jarBytes += file.length();
+            }
+        }
+        System.out.printf("🚀 Startup: first test after %d ms, %d classes loaded, classpath %d entries / %.1f MB of jars, CDS %s%n",
+                uptimeMillis, ManagementFactory.getClassLoadingMXBean().getLoadedClassCount(),
+                entries, jarBytes / (1024.0 * 1024.0), cdsState());
+    }
+
+    /**
+     * @return "off", "JDK archive", the app archive in use, or the archive a training run writes at exit
+     */
+    private static String cdsState() {
+        try {
+            HotSpotDiagnosticMXBean vm = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            String training = vm.getVMOption("ArchiveClassesAtExit").getValue();
+            if (!training.isEmpty()) {
+                return "training → " + training;
+            }
+            if (!Boolean.parseBoolean(vm.getVMOption("UseSharedSpaces").getValue())) {
+                return "off";
+            }
+            String archive = vm.getVMOption("SharedArchiveFile").getValue();
+            return archive.isEmpty() ? "JDK archive" : archive;
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = startTimes.remove(testIdentifier.getUniqueId());
+        // Failed tests often stop early or hit timeouts; their duration says nothing about speed
+        if (start == null || result.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+            return;
+        }
+        PerfRecorder.record("test", name(testIdentifier), System.nanoTime() - start);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!PerfRecorder.ENABLED) {
+            return;
+        }
+        PerfRun run = PerfRecorder.snapshot();
+        if (run.isEmpty()) {
+            return;
+        }
+        Path file = runFile();
+        run.write(file);
+        System.out.println("📊 Performance samples for " + run.getSamples().size() + " keys → " + file);
+    }
+
+    private static Path runFile() {
+        String runId = System.getProperty("perf.runId", "");
+        return Path.of(System.getProperty("perf.dir", "target/perf"))
+                .resolve("run-" + (runId.isEmpty() ? "" : runId + "-") + "w" + TestAccountFactory.workerId() + ".json");
+    }
+
+    /** Parameterized and repeated invocations share their method's key. */
+    private static String name(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .map(source -> source.getClassName().substring(source.getClassName().lastIndexOf('.') + 1)
+                        + "#" + source.getMethodName() + "(" + source.getMethodParameterTypes() + ")")
+                .orElse(testIdentifier.getDisplayName());
+    }
+}
@@ -0,0 +1,206 @@
+package com.skillboost.perf.baseline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the latency samples of the current build against the stored baseline and fails
+ * (or flags) the build when a key got significantly slower.
+ *
+ * A key counts as a regression only when all three hold, so noise alone cannot trip the gate:
+ *   - Mann-Whitney p-value below perf.alpha            (the shift is statistically real)
+ *   - Cliff's delta at least perf.minEffect            (the shift is not negligible in size)
+ *   - median slower by at least perf.minSlowdown %     (the shift matters in practice)
+ * Keys with fewer than perf.minSamples samples on either side are reported but never fail.
+ *
+ * Usage (bound to verify in the perf-gate profile):
+ *   java ... PerfRegressionGate [runDir] [baselineFile] [runId]
+ *     runId                          merge only run-[runId]-*.json (this build's forks); without it every run-*.json
+ *     -Dperf.gate.fail=true          fail the build (false: only flag in the report)
+ *     -Dperf.baseline.update=true    roll the current samples into the baseline when the gate passes
+ *     -Dperf.baseline.window=500     newest samples kept per key in the baseline
+ */
+public final class PerfRegressionGate {
+
+    /**
+     * Thresholds of one gate run.
+     */
+    public record Settings(double alpha, double minEffect, double minSlowdownPercent, int minSamples) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Double.parseDouble(System.getProperty("perf.alpha", "0.01")),
+                    Double.parseDouble(System.getProperty("perf.minEffect", "0.33")),
+                    Double.parseDouble(System.getProperty("perf.minSlowdown", "10")),
+                    Integer.getInteger("perf.minSamples", 8));
+        }
+    }
+
+    public enum Verdict { REGRESSION, OK, FASTER, TOO_FEW_SAMPLES, NEW }
+
+    /**
+     * Outcome for one key; the statistics are null when there was nothing to compare.
+     */
+    public record Comparison(String key, Verdict verdict, int baselineCount, int currentCount,
+                             long baselineMedian, long currentMedian, MannWhitney.Result statistics) {
+
+        public double changePercent() {
+            return baselineMedian == 0 ? 0 : (currentMedian - baselineMedian) * 100.0 / baselineMedian;
+        }
+    }
+
+    private PerfRegressionGate() {}
+
+    public static void main(String[] args) {
+        Path runDir = Path.of(args.length > 0 ? args[0] : "target/perf");
+        Path baselineFile = Path.of(args.length > 1 ? args[1] : System.getProperty("perf.baseline", "target/perf/baseline.json"));
+        boolean failBuild = Boolean.parseBoolean(System.getProperty("perf.gate.fail", "true"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("perf.baseline.update", "true"));
+        int window = Integer.getInteger("perf.baseline.window", 500);
+
+        String runId = args.length > 2 ? args[2] : System.getProperty("perf.runId", "");
+        PerfRun current = readRuns(runDir, runId);
+        if (current.isEmpty()) {
+            System.out.println("ℹ️ No performance samples in " + runDir.toAbsolutePath() + ", skipping regression gate");
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            current.write(baselineFile);
+            System.out.println("📊 No baseline yet, current run stored as baseline → " + baselineFile);
+            return;
+        }
+
+        List<Comparison> comparisons = compare(PerfRun.read(baselineFile), current, Settings.fromSystemProperties());
+        String report = report(comparisons, Settings.fromSystemProperties());
+        System.out.print(report);
+        writeReport(runDir.resolve("regression-report.txt"), report);
+
+        long regressions = comparisons.stream().filter(c -> c.verdict() == Verdict.REGRESSION).count();
+        if (regressions == 0) {
+            if (updateBaseline) {
+                PerfRun.read(baselineFile).roll(current, window).write(baselineFile);
+                System.out.println("📊 Baseline updated → " + baselineFile);
+            }
+            System.out.println("✅ No significant slowdown against the baseline");
+            return;
+        }
+        String message = regressions + " key(s) significantly slower than the baseline, see " + runDir.resolve("regression-report.txt");
+        if (failBuild) {
+            throw new IllegalStateException("❌ Performance regression: " + message);
+        }
+        System.out.println("⚠️ Performance regression (not failing the build): " + message);
+    }
+
+    /**
+     * Compares every key of the current run with its baseline samples.
+     */
+    public static List<Comparison> compare(PerfRun baseline, PerfRun current, Settings settings) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : current.getSamples().entrySet()) {
+            long[] now = entry.getValue();
+            long[] before = baseline.getSamples().get(entry.getKey());
+            if (before == null || before.length == 0) {
+                comparisons.add(new Comparison(entry.getKey(), Verdict.NEW, 0, now.length, 0, median(now), null));
+                continue;
+            }
+
+            long baselineMedian = median(before);
+            long currentMedian = median(now);
+            if (before.length < settings.minSamples() || now.length < settings.minSamples()) {
+                comparisons.add(new Comparison(entry.getKey(), Verdict.TOO_FEW_SAMPLES, before.length, now.length,
+                        baselineMedian, currentMedian, null));
+                continue;
+            }
+
+            MannWhitney.Result result = MannWhitney.test(before, now);
+            Verdict verdict;
+            if (result.pValue() < settings.alpha()
+                    && result.delta() >= settings.minEffect()
+                    && currentMedian >= baselineMedian * (1 + settings.minSlowdownPercent() / 100)) {
+                verdict = Verdict.REGRESSION;
+            } else if (result.delta() <= -settings.minEffect()) {
+                verdict = Verdict.FASTER;
+            } else {
+                verdict = Verdict.OK;
+            }
+            comparisons.add(new Comparison(entry.getKey(), verdict, before.length, now.length,
+                    baselineMedian, currentMedian, result));
+        }
+        return comparisons;
+    }
+
+    static String report(List<Comparison> comparisons, Settings settings) {
+        StringBuilder out = new StringBuilder()
+                .append(String.format(Locale.ROOT, "===== Performance regression gate (alpha=%s, effect≥%s, slowdown≥%s%%, n≥%d) =====%n",
+                        settings.alpha(), settings.minEffect(), settings.minSlowdownPercent(), settings.minSamples()))
+                .append(String.format(Locale.ROOT, "%-60s %7s %7s %10s %10s %8s %9s %7s  %s%n",
+                        "Key", "n(base)", "n(cur)", "p50 base", "p50 cur", "change", "p-value", "delta", "verdict"));
+        for (Comparison c : comparisons) {
+            out.append(String.format(Locale.ROOT, "%-60s %7d %7d %10s %10s %+7.1f%% %9s %7s  %s%n",
+                    c.key(), c.baselineCount(), c.currentCount(),
+                    millis(c.baselineMedian()), millis(c.currentMedian()), c.changePercent(),
+                    c.statistics() == null ? "-" : String.format(Locale.ROOT, "%.4f", c.statistics().pValue()),
+                    c.statistics() == null ? "-" : String.format(Locale.ROOT, "%+.2f", c.statistics().delta()),
+                    c.verdict() == Verdict.REGRESSION ? "❌ REGRESSION" : c.verdict().name()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Merges the run files of one build (one per surefire fork). Files of other runs are left over
+     * from earlier builds (e.g. with more forks) and are deleted instead of merged.
+     *
+     * @param runId the build's perf.runId; empty merges every run-*.json
+     */
+    static PerfRun readRuns(Path runDir, String runId) {
+        PerfRun merged = PerfRun.empty();
+        if (!Files.isDirectory(runDir)) {
+            return merged;
+        }
+        String prefix = runId.isEmpty() ? "run-" : "run-" + runId + "-";
+        int stale = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(runDir, "run-*.json")) {
+            for (Path file : files) {
+                if (file.getFileName().toString().startsWith(prefix)) {
+                    merged = merged.merge(PerfRun.read(file));
+                } else {
+                    Files.delete(file);
+                    stale++;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to list performance runs in " + runDir.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+        if (stale > 0) {
+            System.out.println("🧹 Removed " + stale + " performance run file(s) of earlier builds from " + runDir);
+        }
+        return merged;
+    }
+
+    private static void writeReport(Path file, String report) {
+        try {
+            Files.writeString(file, report, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write regression report → " + e.getMessage());
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.1fms", micros / 1000.0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.skillboost.perf.baseline;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples (microseconds) per key, as written by one test JVM or stored as the baseline.
+ *
+ * Stored as JSON so that a baseline can be committed and diffed:
+ *   { "key": [123, 145, ...], ... }
+ */
+public final class PerfRun {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, long[]> samples;
+
+    public PerfRun(Map<String, long[]> samples) {
+        this.samples = Collections.unmodifiableMap(new TreeMap<>(samples));
+    }
+
+    public static PerfRun empty() {
+        return new PerfRun(Map.of());
+    }
+
+    public Map<String, long[]> getSamples() {
+        return samples;
+    }
+
+    public boolean isEmpty() {
+        return samples.isEmpty();
+    }
+
+    /**
+     * Combines two runs key by key (e.g. the files of parallel forks).
+     */
+    public PerfRun merge(PerfRun other) {
+        Map<String, long[]> merged = new TreeMap<>(samples);
+        other.samples.forEach((key, values) -> merged.merge(key, values, PerfRun::concat));
+        return new PerfRun(merged);
+    }
+
+    /**
+     * Appends a newer run and keeps only the newest {@code maxPerKey} samples of each key,
+     * so the baseline is a rolling window over the last few builds.
+     */
+    public PerfRun roll(PerfRun newer, int maxPerKey) {
+        Map<String, long[]> rolled = new TreeMap<>();
+        merge(newer).samples.forEach((key, values) ->
+                rolled.put(key, Arrays.copyOfRange(values, Math.max(0, values.length - maxPerKey), values.length)));
+        return new PerfRun(rolled);
+    }
+
+    public static PerfRun read(Path file) {
+        try {
+            return new PerfRun(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, long[]>>() {}));
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read performance samples " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    public void write(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            MAPPER.writeValue(temp.toFile(), samples);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to write performance samples " + file.toAbsolutePath() + " → " + e.getMessage(), e);
+        }
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
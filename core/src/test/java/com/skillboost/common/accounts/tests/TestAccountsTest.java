@@ -0,0 +1,69 @@
+package com.skillboost.common.accounts.tests;
+
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.TestAccount;
+import com.skillboost.common.accounts.TestAccountFactory;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("Test accounts")
+public class TestAccountsTest {
+
+    @Test
+    @Story("Account generation")
+    @Description("Accounts generated concurrently are unique and satisfy the signup rules")
+    @DisplayName("Accounts: generated concurrently without collisions")
+    void generatedAccountsAreUniqueAndValid() {
+        Set<String> emails = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            TestAccount account = TestAccountFactory.newAccount();
+            emails.add(account.email());
+
+            assertThat(account.email(), matchesPattern("^[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+$"));
+            assertThat(account.email(), containsString(TestAccountFactory.getRunId()));
+            assertThat(account.password(), matchesPattern("^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[!@#$%]).{8,}$"));
+        });
+
+        assertThat(emails, hasSize(10_000));
+    }
+
+    @Test
+    @Story("Account leasing")
+    @Description("Each worker gets a disjoint slice of the pool and together the slices cover every account")
+    @DisplayName("Accounts: pool is partitioned across workers")
+    void poolIsPartitionedAcrossWorkers(@TempDir Path dir) throws IOException {
+        StringBuilder json = new StringBuilder("{\"accounts\":[");
+        for (int i = 0; i < 10; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"email\":\"user").append(i).append("@skillboost.test\",\"password\":\"Aa1@aQQQ\"}");
+        }
+        Path pool = Files.writeString(dir.resolve("pool.json"), json.append("]}"));
+
+        Set<TestAccount> seen = new HashSet<>();
+        for (int worker = 0; worker < 3; worker++) {
+            List<TestAccount> slice = AccountLeaseService.loadSlice(pool, worker, 3);
+            for (TestAccount account : slice) {
+                assertThat("Account leased to two workers: " + account, seen.add(account), is(true));
+            }
+        }
+
+        assertThat(seen, hasSize(10));
+        assertThat(AccountLeaseService.loadSlice(pool, 1, 3), hasSize(3));
+    }
+}
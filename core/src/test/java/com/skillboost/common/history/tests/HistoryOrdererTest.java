@@ -0,0 +1,106 @@
+package com.skillboost.common.history.tests;
+
+import com.skillboost.common.history.HistoryOrderer;
+import com.skillboost.common.history.HistoryOrderer.Mode;
+import com.skillboost.common.history.TestHistory;
+import com.skillboost.common.history.TestHistory.Entry;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("Test ordering")
+public class HistoryOrdererTest {
+
+    private static final String FLAKY = "a.FlakyTest#run";
+    private static final String BROKEN = "a.BrokenTest#run";
+    private static final String SLOW = "a.SlowTest#run";
+    private static final String FAST = "a.FastTest#run";
+    private static final String NEW = "a.NewTest#run";
+
+    private static TestHistory history() {
+        List<Entry> entries = new ArrayList<>();
+        for (int run = 0; run < 10; run++) {
+            entries.add(new Entry(run, SLOW, "SUCCESSFUL", 60_000));
+            entries.add(new Entry(run, FAST, "SUCCESSFUL", 200));
+            // Failed in 3 of 10 runs, but not in the newest three
+            entries.add(new Entry(run, FLAKY, run < 3 ? "FAILED" : "SUCCESSFUL", 1_000));
+            entries.add(new Entry(run, BROKEN, run == 9 ? "FAILED" : "SUCCESSFUL", 5_000));
+        }
+        return new TestHistory(entries);
+    }
+
+    @Test
+    @Story("History")
+    @Description("Failure rate, recent failures and mean duration of successful runs are aggregated per test and per class")
+    @DisplayName("History: aggregates outcomes and durations")
+    void aggregatesStats() {
+        TestHistory history = history();
+
+        TestHistory.Stats flaky = history.stats(FLAKY);
+        assertThat(flaky.runs(), is(10));
+        assertThat(flaky.failureRate(), closeTo(0.3, 1e-9));
+        assertThat(flaky.recentlyFailed(), is(false));
+
+        assertThat(history.stats(BROKEN).recentlyFailed(), is(true));
+        assertThat(history.stats(SLOW).meanMillis(), closeTo(60_000, 1e-9));
+        assertThat(history.stats(NEW), is(nullValue()));
+        assertThat(history.classStats("a.SlowTest").meanMillis(), closeTo(60_000, 1e-9));
+        assertThat(history.classStats("a.Slow"), is(nullValue()));
+    }
+
+    @Test
+    @Story("Ordering")
+    @Description("Recent failures first, then new tests, then by failure rate, then shortest first")
+    @DisplayName("Ordering: failures-first")
+    void failuresFirst() {
+        TestHistory history = history();
+        List<String> tests = new ArrayList<>(List.of(SLOW, FAST, FLAKY, NEW, BROKEN));
+
+        tests.sort(HistoryOrderer.comparator(Mode.FAILURES_FIRST, history::stats));
+
+        assertThat(tests, contains(BROKEN, NEW, FLAKY, FAST, SLOW));
+    }
+
+    @Test
+    @Story("Ordering")
+    @Description("Longest tests first so that parallel workers finish together; unknown tests count as the longest")
+    @DisplayName("Ordering: longest-first")
+    void longestFirst() {
+        TestHistory history = history();
+        List<String> tests = new ArrayList<>(List.of(FAST, FLAKY, SLOW, BROKEN, NEW));
+
+        tests.sort(HistoryOrderer.comparator(Mode.LONGEST_FIRST, history::stats));
+
+        assertThat(tests, contains(NEW, SLOW, BROKEN, FLAKY, FAST));
+    }
+
+    @Test
+    @Story("History")
+    @Description("Appended entries survive a reload and a torn line left by a killed fork is skipped")
+    @DisplayName("History: append and reload")
+    void appendAndReload(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("history.jsonl");
+        TestHistory.append(file, List.of(new Entry(1, FAST, "SUCCESSFUL", 100)));
+        Files.writeString(file, "{\"timestamp\":2,\"te", StandardOpenOption.APPEND);
+        TestHistory.append(file, List.of(new Entry(3, FAST, "FAILED", 50)));
+
+        TestHistory.Stats stats = TestHistory.load(file).stats(FAST);
+        assertThat(stats.runs(), is(2));
+        assertThat(stats.failures(), is(1));
+        assertThat(stats.meanMillis(), closeTo(100, 1e-9));
+
+        assertThat(TestHistory.load(dir.resolve("missing.jsonl")).isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,89 @@
+package com.skillboost.common.testdata.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.skillboost.common.testdata.CompiledTestData;
+import com.skillboost.common.testdata.TestDataCompiler;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("Compiled test data")
+public class CompiledTestDataTest {
+
+    private static final String KEY = "ui/testdata/login-data.json";
+    private static final String JSON = """
+            {
+              "validUser": { "email": "valid@skillboost.test", "password": "Aa1@aQQQ" },
+              "lockedUser": { "email": "locked@skillboost.test", "attempts": 5 }
+            }
+            """;
+
+    @Test
+    @Story("Round trip")
+    @Description("A compiled artifact serves whole files and single scenarios with the same content as the JSON source")
+    @DisplayName("Test data: compile, then read files and scenarios back")
+    void compiledDataReadsBackLikeTheJson(@TempDir Path dir) throws IOException {
+        Path root = writeSource(dir);
+        Path artifact = dir.resolve("testdata.bin");
+
+        assertThat(TestDataCompiler.compile(root, artifact), equalTo(1));
+        CompiledTestData data = CompiledTestData.open(artifact, root);
+
+        Optional<JsonNode> file = data.readFile(KEY);
+        assertThat(file.isPresent(), is(true));
+        assertThat(file.get().path("lockedUser").path("attempts").asInt(), equalTo(5));
+
+        Optional<JsonNode> scenario = data.readScenario(KEY, "validUser");
+        assertThat(scenario.isPresent(), is(true));
+        assertThat(scenario.get().path("email").asText(), equalTo("valid@skillboost.test"));
+
+        assertThat(data.readScenario(KEY, "unknownUser").isPresent(), is(false));
+        assertThat(data.readFile("ui/testdata/other.json").isPresent(), is(false));
+    }
+
+    @Test
+    @Story("Fallback")
+    @Description("Once the JSON source changes after compilation, lookups come back empty so callers parse the JSON")
+    @DisplayName("Test data: a stale artifact falls back to JSON")
+    void staleArtifactIsNotServed(@TempDir Path dir) throws IOException {
+        Path root = writeSource(dir);
+        Path artifact = dir.resolve("testdata.bin");
+        TestDataCompiler.compile(root, artifact);
+
+        Files.writeString(root.resolve(KEY), JSON.replace("valid@", "edited@"));
+        CompiledTestData data = CompiledTestData.open(artifact, root);
+
+        assertThat(data.readFile(KEY).isPresent(), is(false));
+        assertThat(data.readScenario(KEY, "validUser").isPresent(), is(false));
+    }
+
+    @Test
+    @Story("Fallback")
+    @Description("Without a compiled artifact every lookup is empty instead of failing")
+    @DisplayName("Test data: a missing artifact falls back to JSON")
+    void missingArtifactIsEmpty(@TempDir Path dir) throws IOException {
+        Path root = writeSource(dir);
+        CompiledTestData data = CompiledTestData.open(dir.resolve("missing.bin"), root);
+
+        assertThat(data.readFile(KEY).isPresent(), is(false));
+        assertThat(data.readScenario(KEY, "validUser").isPresent(), is(false));
+    }
+
+    private static Path writeSource(Path dir) throws IOException {
+        Path root = dir.resolve("resources");
+        Path source = root.resolve(KEY);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, JSON);
+        return root;
+    }
+}
@@ -0,0 +1,86 @@
+package com.skillboost.perf.tests;
+
+import com.skillboost.perf.baseline.MannWhitney;
+import com.skillboost.perf.baseline.PerfRegressionGate;
+import com.skillboost.perf.baseline.PerfRegressionGate.Comparison;
+import com.skillboost.perf.baseline.PerfRegressionGate.Verdict;
+import com.skillboost.perf.baseline.PerfRun;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Performance")
+@Feature("Regression gate")
+public class PerfRegressionGateTest {
+
+    private static final PerfRegressionGate.Settings SETTINGS = new PerfRegressionGate.Settings(0.01, 0.33, 10, 8);
+
+    @Test
+    @DisplayName("Mann-Whitney U matches a hand-computed example")
+    @Description("Fully separated samples give U = n1*n2 and Cliff's delta = 1; identical samples give no evidence")
+    void mannWhitneyStatistics() {
+        MannWhitney.Result separated = MannWhitney.test(new long[]{1, 2, 3, 4}, new long[]{5, 6, 7, 8, 9});
+        assertThat(separated.u(), closeTo(20.0, 1e-9));
+        assertThat(separated.delta(), closeTo(1.0, 1e-9));
+        assertThat(separated.pValue(), lessThan(0.02)); // exact: 1/126
+
+        MannWhitney.Result identical = MannWhitney.test(new long[]{5, 5, 5}, new long[]{5, 5, 5});
+        assertThat(identical.pValue(), closeTo(1.0, 1e-9));
+        assertThat(identical.delta(), closeTo(0.0, 1e-9));
+    }
+
+    @Test
+    @DisplayName("Noise alone does not trip the gate")
+    @Description("Two runs drawn from the same noisy distribution (with outliers) compare as OK")
+    void sameDistributionPasses() {
+        PerfRun baseline = run("api: POST /auth/register", noisy(new Random(1), 200, 100));
+        PerfRun current = run("api: POST /auth/register", noisy(new Random(2), 200, 100));
+
+        List<Comparison> comparisons = PerfRegressionGate.compare(baseline, current, SETTINGS);
+
+        assertThat(comparisons, hasSize(1));
+        assertThat(comparisons.get(0).verdict(), is(not(Verdict.REGRESSION)));
+    }
+
+    @Test
+    @DisplayName("A consistent slowdown is flagged as a regression")
+    @Description("A 30% slower distribution fails the gate; keys with too few samples or no baseline never do")
+    void slowdownIsRegression() {
+        PerfRun baseline = run("api: POST /auth/register", noisy(new Random(3), 200, 100))
+                .merge(run("test: UserApiTest#testRegister()", new long[]{1000, 1100}));
+        PerfRun current = run("api: POST /auth/register", noisy(new Random(4), 200, 130))
+                .merge(run("test: UserApiTest#testRegister()", new long[]{5000}))
+                .merge(run("ui: WebElement.click", new long[]{40, 42, 41}));
+
+        Map<String, Verdict> verdicts = new TreeMap<>();
+        PerfRegressionGate.compare(baseline, current, SETTINGS).forEach(c -> verdicts.put(c.key(), c.verdict()));
+
+        assertThat(verdicts, hasEntry("api: POST /auth/register", Verdict.REGRESSION));
+        assertThat(verdicts, hasEntry("test: UserApiTest#testRegister()", Verdict.TOO_FEW_SAMPLES));
+        assertThat(verdicts, hasEntry("ui: WebElement.click", Verdict.NEW));
+    }
+
+    /** Roughly normal latencies around the median (microseconds) with 2% outliers at 10x. */
+    private static long[] noisy(Random random, int count, long medianMs) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            double value = medianMs * 1000 * (1 + 0.1 * random.nextGaussian());
+            values[i] = (long) (random.nextDouble() < 0.02 ? value * 10 : value);
+        }
+        return values;
+    }
+
+    private static PerfRun run(String key, long[] values) {
+        return new PerfRun(Map.of(key, values));
+    }
+}
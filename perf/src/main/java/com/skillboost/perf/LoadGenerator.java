@@ -0,0 +1,191 @@
+package com.skillboost.perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link LoadTask} according to a {@link LoadProfile}.
+ *
+ * Open model: a single dispatcher computes the intended start time of every arrival
+ * from the (linearly interpolated) rate of the current phase and hands each request to
+ * its own virtual thread. Latency is measured from the intended start, so a stalled
+ * system cannot hide its queueing delay (coordinated-omission correction).
+ *
+ * Closed model: one virtual thread per virtual user; user {@code i} is active while the
+ * interpolated concurrency of the current phase is greater than {@code i}.
+ */
+public final class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+
+    /**
+     * Runs the profile to completion and returns the collected statistics.
+     * Blocks until every issued request has finished.
+     */
+    public LoadResult run(LoadProfile profile, LoadTask task) {
+        LoadResult result = new LoadResult(profile);
+        log.info("Starting {} model load run: {} phase(s), {}s total",
+                profile.getModel(), profile.getPhases().size(), profile.getTotalDuration().toSeconds());
+
+        result.start();
+        switch (profile.getModel()) {
+            case OPEN -> runOpen(profile, task, result);
+            case CLOSED -> runClosed(profile, task, result);
+        }
+        result.finish();
+
+        log.info("Load run finished in {}s: {} request(s), {} failure(s), {} dropped",
+                String.format("%.1f", result.getElapsedSeconds()), result.total().getRequests(),
+                result.total().getFailures(), result.total().getDropped());
+        return result;
+    }
+
+    // ─────────────────────────────────────────────
+    // Open model
+    // ─────────────────────────────────────────────
+    private void runOpen(LoadProfile profile, LoadTask task, LoadResult result) {
+        Semaphore inFlight = new Semaphore(profile.getMaxInFlight());
+        AtomicLong sequence = new AtomicLong();
+        List<LoadPhase> phases = profile.getPhases();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long phaseStart = System.nanoTime();
+            for (int p = 0; p < phases.size(); p++) {
+                LoadPhase phase = phases.get(p);
+                LoadResult.PhaseStats stats = result.phase(p);
+                long phaseNanos = phase.duration().toNanos();
+
+                for (long k = 1; ; k++) {
+                    long offset = arrivalOffsetNanos(phase, k);
+                    if (offset < 0 || offset >= phaseNanos) {
+                        break;
+                    }
+                    long intendedStart = phaseStart + offset;
+                    parkUntil(intendedStart);
+
+                    if (!inFlight.tryAcquire()) {
+                        stats.drop();
+                        continue;
+                    }
+                    long seq = sequence.getAndIncrement();
+                    executor.execute(() -> {
+                        try {
+                            execute(task, seq, intendedStart, stats);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                phaseStart += phaseNanos;
+                parkUntil(phaseStart);
+            }
+        }
+    }
+
+    /**
+     * Offset of the k-th arrival within a phase whose rate grows linearly from a to b.
+     * Solves N(t) = a*t + (b-a)/(2T) * t^2 = k for t; returns -1 when the k-th arrival
+     * never happens within this phase.
+     */
+    static long arrivalOffsetNanos(LoadPhase phase, long k) {
+        double a = phase.startLevel();
+        double seconds = phase.duration().toNanos() / 1e9;
+        double slope = (phase.endLevel() - a) / seconds;
+        double t;
+        if (Math.abs(slope) < 1e-12) {
+            if (a <= 0) {
+                return -1;
+            }
+            t = k / a;
+        } else {
+            double discriminant = a * a + 2 * slope * k;
+            if (discriminant < 0) {
+                return -1;
+            }
+            t = (-a + Math.sqrt(discriminant)) / slope;
+            if (t < 0) {
+                return -1;
+            }
+        }
+        return (long) (t * 1e9);
+    }
+
+    // ─────────────────────────────────────────────
+    // Closed model
+    // ─────────────────────────────────────────────
+    private void runClosed(LoadProfile profile, LoadTask task, LoadResult result) {
+        List<LoadPhase> phases = profile.getPhases();
+        int maxUsers = (int) Math.ceil(phases.stream()
+                .mapToDouble(p -> Math.max(p.startLevel(), p.endLevel())).max().orElse(0));
+        AtomicLong sequence = new AtomicLong();
+        long runStart = System.nanoTime();
+        long runEnd = runStart + profile.getTotalDuration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < maxUsers; user++) {
+                int userIndex = user;
+                executor.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < runEnd) {
+                        int p = phaseIndexAt(phases, now - runStart);
+                        LoadPhase phase = phases.get(p);
+                        if (phase.levelAt(now - runStart - phaseStartOffset(phases, p)) <= userIndex) {
+                            LockSupport.parkNanos(IDLE_PARK_NANOS);
+                            continue;
+                        }
+                        execute(task, sequence.getAndIncrement(), now, result.phase(p));
+                    }
+                });
+            }
+        }
+    }
+
+    private static int phaseIndexAt(List<LoadPhase> phases, long offsetNanos) {
+        long end = 0;
+        for (int i = 0; i < phases.size(); i++) {
+            end += phases.get(i).duration().toNanos();
+            if (offsetNanos < end) {
+                return i;
+            }
+        }
+        return phases.size() - 1;
+    }
+
+    private static long phaseStartOffset(List<LoadPhase> phases, int index) {
+        long start = 0;
+        for (int i = 0; i < index; i++) {
+            start += phases.get(i).duration().toNanos();
+        }
+        return start;
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+    private static void execute(LoadTask task, long sequence, long intendedStart, LoadResult.PhaseStats stats) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            task.execute(sequence);
+        } catch (Exception | AssertionError e) {
+            error = e;
+        }
+        long end = System.nanoTime();
+        stats.record(end - intendedStart, end - start, error);
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillboost.perf;
+
+import java.time.Duration;
+
+/**
+ * One phase of a load profile. The load level is interpolated linearly from
+ * {@code startLevel} to {@code endLevel} over the phase duration.
+ *
+ * For open-model profiles the level is an arrival rate (requests per second);
+ * for closed-model profiles it is the number of concurrent virtual users.
+ */
+public record LoadPhase(String name, Duration duration, double startLevel, double endLevel) {
+
+    public LoadPhase {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Phase '" + name + "' must have a positive duration");
+        }
+        if (startLevel < 0 || endLevel < 0) {
+            throw new IllegalArgumentException("Phase '" + name + "' must have non-negative load levels");
+        }
+    }
+
+    /**
+     * Load level at the given offset into the phase.
+     */
+    public double levelAt(long offsetNanos) {
+        double progress = Math.min(1.0, (double) offsetNanos / duration.toNanos());
+        return startLevel + (endLevel - startLevel) * progress;
+    }
+}
@@ -0,0 +1,115 @@
+package com.skillboost.perf;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes how load is applied over time: the workload model and its phases.
+ *
+ * Example (open model, 20 req/s steady state):
+ * <pre>
+ *   LoadProfile.openModel()
+ *       .rampUp(Duration.ofSeconds(10), 20)
+ *       .steady(Duration.ofSeconds(60))
+ *       .rampDown(Duration.ofSeconds(10))
+ *       .build();
+ * </pre>
+ */
+public final class LoadProfile {
+
+    /**
+     * Open model: requests arrive at a given rate regardless of how fast the system answers.
+     * Closed model: a fixed number of virtual users each wait for a response before sending again.
+     */
+    public enum Model { OPEN, CLOSED }
+
+    private final Model model;
+    private final List<LoadPhase> phases;
+    private final int maxInFlight;
+
+    private LoadProfile(Model model, List<LoadPhase> phases, int maxInFlight) {
+        this.model = model;
+        this.phases = List.copyOf(phases);
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static Builder openModel() {
+        return new Builder(Model.OPEN);
+    }
+
+    public static Builder closedModel() {
+        return new Builder(Model.CLOSED);
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public List<LoadPhase> getPhases() {
+        return phases;
+    }
+
+    /** Safety cap on outstanding open-model requests; arrivals beyond it are counted as dropped. */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getTotalDuration() {
+        return phases.stream().map(LoadPhase::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Fluent builder. Each phase starts at the level the previous phase ended with.
+     */
+    public static final class Builder {
+
+        private final Model model;
+        private final List<LoadPhase> phases = new ArrayList<>();
+        private double currentLevel;
+        private int maxInFlight = 10_000;
+
+        private Builder(Model model) {
+            this.model = model;
+        }
+
+        /** Ramps linearly from the current level (initially 0) to {@code target}. */
+        public Builder rampUp(Duration duration, double target) {
+            return phase("ramp-up", duration, target);
+        }
+
+        /** Holds the current level. */
+        public Builder steady(Duration duration) {
+            return phase("steady", duration, currentLevel);
+        }
+
+        /** Holds an explicit level. */
+        public Builder steady(Duration duration, double level) {
+            currentLevel = level;
+            return phase("steady", duration, level);
+        }
+
+        /** Ramps linearly from the current level down to zero. */
+        public Builder rampDown(Duration duration) {
+            return phase("ramp-down", duration, 0);
+        }
+
+        public Builder phase(String name, Duration duration, double target) {
+            phases.add(new LoadPhase(name, duration, currentLevel, target));
+            currentLevel = target;
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public LoadProfile build() {
+            if (phases.isEmpty()) {
+                throw new IllegalStateException("A load profile needs at least one phase");
+            }
+            return new LoadProfile(model, phases, maxInFlight);
+        }
+    }
+}
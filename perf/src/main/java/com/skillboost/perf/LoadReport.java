@@ -0,0 +1,112 @@
+package com.skillboost.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders a {@link LoadResult} as a plain-text summary (for logs) or a standalone HTML page.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0, 99.9};
+
+    private LoadReport() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Plain-text summary with one block per phase plus the total.
+     */
+    public static String toText(String title, LoadResult result) {
+        StringBuilder out = new StringBuilder();
+        out.append("===== ").append(title).append(" (").append(result.getProfile().getModel())
+                .append(" model, ").append(format("%.1f", result.getElapsedSeconds())).append("s) =====\n");
+
+        for (LoadResult.PhaseStats phase : phasesWithTotal(result)) {
+            out.append(format("%-10s requests=%d ok=%d failed=%d dropped=%d throughput=%.1f/s%n",
+                    phase.getPhase().name(), phase.getRequests(), phase.getSuccesses(),
+                    phase.getFailures(), phase.getDropped(), phase.getThroughput()));
+            if (phase.getRequests() == 0) {
+                continue;
+            }
+            out.append("           response time (ms):");
+            for (double p : PERCENTILES) {
+                out.append(format(" p%s=%.1f", label(p), phase.percentileMillis(p)));
+            }
+            out.append(format(" max=%.1f%n", phase.getResponseTime().getMaxValue() / 1_000.0));
+            out.append(format("           service time  (ms): p50=%.1f p99=%.1f%n",
+                    phase.getServiceTime().getValueAtPercentile(50) / 1_000.0,
+                    phase.getServiceTime().getValueAtPercentile(99) / 1_000.0));
+            if (!phase.getErrors().isEmpty()) {
+                out.append("           errors: ").append(phase.getErrors()).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes a self-contained HTML report.
+     */
+    public static void writeHtml(String title, LoadResult result, Path file) throws IOException {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>").append(escape(title))
+                .append("</title><style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}th{background:#f3f3f3}")
+                .append("td:first-child{text-align:left}</style></head><body>");
+        html.append("<h1>").append(escape(title)).append("</h1>");
+        html.append("<p>").append(result.getProfile().getModel()).append(" model, ")
+                .append(format("%.1f", result.getElapsedSeconds())).append("s elapsed. ")
+                .append("Response time is measured from the intended start (coordinated-omission corrected).</p>");
+
+        html.append("<table><tr><th>Phase</th><th>Requests</th><th>OK</th><th>Failed</th><th>Dropped</th>")
+                .append("<th>Throughput/s</th>");
+        for (double p : PERCENTILES) {
+            html.append("<th>p").append(label(p)).append(" ms</th>");
+        }
+        html.append("<th>max ms</th><th>Errors</th></tr>");
+
+        for (LoadResult.PhaseStats phase : phasesWithTotal(result)) {
+            html.append("<tr><td>").append(escape(phase.getPhase().name())).append("</td>")
+                    .append(cell(phase.getRequests())).append(cell(phase.getSuccesses()))
+                    .append(cell(phase.getFailures())).append(cell(phase.getDropped()))
+                    .append("<td>").append(format("%.1f", phase.getThroughput())).append("</td>");
+            for (double p : PERCENTILES) {
+                html.append("<td>").append(phase.getRequests() == 0 ? "-" : format("%.1f", phase.percentileMillis(p)))
+                        .append("</td>");
+            }
+            html.append("<td>").append(format("%.1f", phase.getResponseTime().getMaxValue() / 1_000.0)).append("</td>")
+                    .append("<td>").append(escape(phase.getErrors().toString())).append("</td></tr>");
+        }
+        html.append("</table></body></html>");
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, html.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static List<LoadResult.PhaseStats> phasesWithTotal(LoadResult result) {
+        List<LoadResult.PhaseStats> rows = new ArrayList<>(result.getPhases());
+        rows.add(result.total());
+        return rows;
+    }
+
+    private static String label(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+    private static String cell(long value) {
+        return "<td>" + value + "</td>";
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,155 @@
+package com.skillboost.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters collected by {@link LoadGenerator}, one set per phase.
+ *
+ * Two latencies are recorded for every request, in microseconds:
+ *   responseTime - from the intended (scheduled) start to completion, i.e. corrected for
+ *                  coordinated omission: time spent queued behind a slow request counts
+ *   serviceTime  - from the actual start to completion
+ * In the closed model there is no schedule, so both values are the same.
+ */
+public final class LoadResult {
+
+    private final LoadProfile profile;
+    private final List<PhaseStats> phases = new ArrayList<>();
+    private long startNanos;
+    private long endNanos;
+
+    LoadResult(LoadProfile profile) {
+        this.profile = profile;
+        for (LoadPhase phase : profile.getPhases()) {
+            phases.add(new PhaseStats(phase));
+        }
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    PhaseStats phase(int index) {
+        return phases.get(index);
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public List<PhaseStats> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    public double getElapsedSeconds() {
+        return (endNanos - startNanos) / 1e9;
+    }
+
+    /** Aggregated statistics across all phases. */
+    public PhaseStats total() {
+        PhaseStats total = new PhaseStats(new LoadPhase("total", profile.getTotalDuration(), 0, 0));
+        for (PhaseStats phase : phases) {
+            total.merge(phase);
+        }
+        return total;
+    }
+
+    /**
+     * Counters for one phase. Histograms hold microseconds.
+     */
+    public static final class PhaseStats {
+
+        private final LoadPhase phase;
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        PhaseStats(LoadPhase phase) {
+            this.phase = phase;
+        }
+
+        void record(long responseNanos, long serviceNanos, Throwable error) {
+            responseTime.recordValue(Math.max(1, responseNanos / 1_000));
+            serviceTime.recordValue(Math.max(1, serviceNanos / 1_000));
+            if (error == null) {
+                successes.increment();
+            } else {
+                failures.increment();
+                errors.computeIfAbsent(error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+            }
+        }
+
+        void drop() {
+            dropped.increment();
+        }
+
+        private void merge(PhaseStats other) {
+            responseTime.add(other.responseTime);
+            serviceTime.add(other.serviceTime);
+            successes.add(other.successes.sum());
+            failures.add(other.failures.sum());
+            dropped.add(other.dropped.sum());
+            other.errors.forEach((type, count) ->
+                    errors.computeIfAbsent(type, k -> new LongAdder()).add(count.sum()));
+        }
+
+        public LoadPhase getPhase() {
+            return phase;
+        }
+
+        public Histogram getResponseTime() {
+            return responseTime;
+        }
+
+        public Histogram getServiceTime() {
+            return serviceTime;
+        }
+
+        public long getRequests() {
+            return successes.sum() + failures.sum();
+        }
+
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getDropped() {
+            return dropped.sum();
+        }
+
+        public Map<String, Long> getErrors() {
+            Map<String, Long> snapshot = new TreeMap<>();
+            errors.forEach((type, count) -> snapshot.put(type, count.sum()));
+            return snapshot;
+        }
+
+        public double getThroughput() {
+            return getRequests() / (phase.duration().toNanos() / 1e9);
+        }
+
+        /** Response-time percentile in milliseconds. */
+        public double percentileMillis(double percentile) {
+            return responseTime.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+}
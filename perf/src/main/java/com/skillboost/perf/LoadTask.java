@@ -0,0 +1,14 @@
+package com.skillboost.perf;
+
+/**
+ * A single unit of work issued by the load generator, e.g. one call through an endpoint class.
+ * Throwing marks the request as failed; the exception type is counted in the result.
+ */
+@FunctionalInterface
+public interface LoadTask {
+
+    /**
+     * @param sequence zero-based, unique sequence number of this request within the run
+     */
+    void execute(long sequence) throws Exception;
+}
@@ -0,0 +1,80 @@
+package com.skillboost.perf;
+
+import com.skillboost.api_test.endpoints.UserEndpoints;
+import com.skillboost.api_test.models.user.request.RegisterRequest;
+import com.skillboost.api_test.models.user.response.RegisterResponse;
+import com.skillboost.api_test.stub.AuthStubServer;
+import com.skillboost.api_test.utils.ApiConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load run against the register endpoint through {@link UserEndpoints}.
+ *
+ * Run with: mvn -Pload verify -DskipTests -Dapi.environment=stub
+ *
+ * System properties:
+ *   perf.baseUrl      - API base URL (default: ApiConfig, e.g. the embedded stub for api.environment=stub)
+ *   perf.model        - open | closed (default open)
+ *   perf.level        - arrival rate per second (open) or virtual users (closed), default 5
+ *   perf.rampUp       - ramp-up seconds (default 10)
+ *   perf.steady       - steady-state seconds (default 30)
+ *   perf.rampDown     - ramp-down seconds (default 5)
+ *   perf.reportDir    - output directory for the HTML summary (default target/perf)
+ *
+ * The client-side rate governor is off unless -Dapi.throttle.enabled=true is given, so the run
+ * measures the server at the offered load rather than the governor's pacing.
+ */
+public final class RegisterLoadRun {
+
+    private static final String PASSWORD = "Aa1@aQQQ";
+
+    private RegisterLoadRun() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("api.throttle.enabled") == null) {
+            System.setProperty("api.throttle.enabled", "false"); // read once when ThrottlingFilter loads
+        }
+        String baseUrl = System.getProperty("perf.baseUrl", ApiConfig.getBaseUrl());
+
+        boolean open = !"closed".equalsIgnoreCase(System.getProperty("perf.model", "open"));
+        double level = Double.parseDouble(System.getProperty("perf.level", "5"));
+        LoadProfile profile = (open ? LoadProfile.openModel() : LoadProfile.closedModel())
+                .rampUp(seconds("perf.rampUp", 10), level)
+                .steady(seconds("perf.steady", 30))
+                .rampDown(seconds("perf.rampDown", 5))
+                .build();
+
+        UserEndpoints endpoints = new UserEndpoints(baseUrl);
+        String runId = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+
+        LoadResult result = new LoadGenerator().run(profile, sequence -> {
+            RegisterRequest request = new RegisterRequest();
+            request.setEmail(String.format(Locale.ROOT, "loadtest+%s-%d@skillboost.test", runId, sequence));
+            request.setPassword(PASSWORD);
+
+            RegisterResponse response = endpoints.register(request);
+            if (!Boolean.TRUE.equals(response.getSuccess())) {
+                throw new IllegalStateException("Register failed with status " + response.getStatus());
+            }
+        });
+
+        String title = "Register load run → " + baseUrl;
+        System.out.println(LoadReport.toText(title, result));
+
+        Path report = Paths.get(System.getProperty("perf.reportDir", "target/perf"), "register-load.html");
+        LoadReport.writeHtml(title, result, report);
+        System.out.println("📊 HTML report written to " + report.toAbsolutePath());
+        AuthStubServer.stopShared(); // exec:java waits for the stub's dispatcher thread otherwise
+    }
+
+    private static Duration seconds(String property, long defaultSeconds) {
+        return Duration.ofSeconds(Long.getLong(property, defaultSeconds));
+    }
+}
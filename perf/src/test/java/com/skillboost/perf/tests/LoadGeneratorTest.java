@@ -0,0 +1,54 @@
+package com.skillboost.perf.tests;
+
+import com.skillboost.perf.LoadGenerator;
+import com.skillboost.perf.LoadProfile;
+import com.skillboost.perf.LoadResult;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Performance")
+@Feature("Load generator")
+public class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Open model issues requests at the configured arrival rate")
+    @Description("A 1s steady phase at 50 req/s should issue ~50 requests independent of task latency")
+    void openModelHonorsArrivalRate() {
+        LoadProfile profile = LoadProfile.openModel()
+                .steady(Duration.ofSeconds(1), 50)
+                .build();
+
+        LoadResult result = new LoadGenerator().run(profile, seq -> Thread.sleep(20));
+
+        assertThat(result.total().getRequests(), is(both(greaterThanOrEqualTo(45L)).and(lessThanOrEqualTo(50L))));
+        assertThat(result.total().getFailures(), is(0L));
+    }
+
+    @Test
+    @DisplayName("Closed model never exceeds the configured number of virtual users")
+    void closedModelCapsConcurrency() {
+        LoadProfile profile = LoadProfile.closedModel()
+                .steady(Duration.ofMillis(500), 4)
+                .build();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        LoadResult result = new LoadGenerator().run(profile, seq -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            active.decrementAndGet();
+        });
+
+        assertThat(peak.get(), is(lessThanOrEqualTo(4)));
+        assertThat(result.total().getRequests(), greaterThan(0L));
+    }
+}
@@ -1,41 +0,0 @@
-package com.skillboost.api_test.base;
-
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.http.ContentType;
-import io.restassured.specification.RequestSpecification;
-import io.restassured.specification.ResponseSpecification;
-import org.apache.logging.log4j.core.config.Configurator;
-import org.junit.jupiter.api.BeforeAll;
-
-public class BaseTest {
-
-    protected static final String BASE_URL = "https://lmmqcw9520.execute-api.eu-west-1.amazonaws.com/dev/api/v1";
-
-    protected static RequestSpecification requestSpec;
-    protected static ResponseSpecification responseSpec;
-
-    @BeforeAll
-    public static void setup() {
-
-        // Base URI of your backend
-        RestAssured.baseURI = BASE_URL;
-
-        // Request specification
-        requestSpec = new RequestSpecBuilder()
-                .setContentType(ContentType.JSON)
-                .addHeader("Accept", "application/json")
-                // Filters for logging; can be removed if you want Log4j2 to handle logging
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
-                .build();
-
-        // Response specification
-        responseSpec = new ResponseSpecBuilder()
-                .expectContentType(ContentType.JSON)
-                .build();
-    }
-}
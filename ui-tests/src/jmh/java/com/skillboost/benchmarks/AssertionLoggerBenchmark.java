@@ -0,0 +1,46 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.ui_tests.utils.AssertionLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of AssertionLogger's two log lines per assertion compared with a bare assertion.
+ * Logging is routed to a file (src/jmh/resources/logback-bench.xml) so console I/O
+ * does not dominate the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=src/jmh/resources/logback-bench.xml")
+public class AssertionLoggerBenchmark {
+
+    private String expected = "Dashboard";
+    private String actual = "Dashboard";
+
+    @Benchmark
+    public void plainAssertEquals() {
+        assertEquals(expected, actual, "Title matches");
+    }
+
+    @Benchmark
+    public void loggedAssertEquals() {
+        AssertionLogger.assertEqualsWithLog(expected, actual, "Title matches");
+    }
+
+    @Benchmark
+    public void plainAssertTrue() {
+        assertTrue(actual.startsWith(expected), "Title matches");
+    }
+
+    @Benchmark
+    public void loggedAssertTrue() {
+        AssertionLogger.assertTrueWithLog(actual.startsWith(expected), "Title matches");
+    }
+}
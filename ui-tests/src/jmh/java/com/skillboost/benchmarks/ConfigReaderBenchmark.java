@@ -0,0 +1,39 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.ui_tests.utils.ConfigReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReader getters are called on every driver start and wait creation;
+ * each one walks the JsonNode tree again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getBaseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+
+    @Benchmark
+    public String getBrowser() {
+        return ConfigReader.getBrowser();
+    }
+
+    @Benchmark
+    public int getPageLoadTimeout() {
+        return ConfigReader.getPageLoadTimeout();
+    }
+
+    @Benchmark
+    public boolean isScreenshotOnFailure() {
+        return ConfigReader.isScreenshotOnFailure();
+    }
+}
@@ -0,0 +1,24 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.ui_tests.utils.JsonDataReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UI test-data lookup hot path.
+ * Runs from the ui-tests module directory so the relative test-data paths resolve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDataReaderBenchmark {
+
+    @Benchmark
+    public String jsonDataReaderGetValue() {
+        return JsonDataReader.getValue("login-data.json", "validDetails.email");
+    }
+}
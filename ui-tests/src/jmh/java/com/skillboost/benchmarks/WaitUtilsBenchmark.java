@@ -0,0 +1,58 @@
+package com.skillboost.benchmarks;
+
+import com.skillboost.ui_tests.utils.DriverFactory;
+import com.skillboost.ui_tests.utils.WaitUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WaitUtils.getWait() runs before every explicit wait and looks up the session id
+ * through the driver's capabilities each time. A proxy driver stands in for a real
+ * browser so only the lookup and the cached-wait check are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitUtilsBenchmark {
+
+    @Setup
+    public void setUp() {
+        DriverFactory.setDriver(fakeDriver("bench-session"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        WaitUtils.resetWait();
+        DriverFactory.quitDriver();
+    }
+
+    @Benchmark
+    public WebDriverWait getWaitCached() {
+        return WaitUtils.getWait();
+    }
+
+    /** Only answers getCapabilities(); quit() is a no-op and everything else returns null. */
+    private static WebDriver fakeDriver(String sessionId) {
+        Capabilities capabilities = new ImmutableCapabilities("webdriver.remote.sessionid", sessionId);
+        return (WebDriver) Proxy.newProxyInstance(
+                WaitUtilsBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, HasCapabilities.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getCapabilities" -> capabilities;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeDriver(" + sessionId + ")";
+                    default -> null;
+                });
+    }
+}
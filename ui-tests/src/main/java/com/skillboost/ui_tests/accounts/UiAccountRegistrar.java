@@ -0,0 +1,74 @@
+package com.skillboost.ui_tests.accounts;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.common.accounts.AccountRegistrar;
+import com.skillboost.common.accounts.TestAccount;
+import com.skillboost.ui_tests.utils.ConfigReader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Registers pool accounts for the UI suite through the backend of the active environment
+ * ("apiBaseUrl" in ui-config.json), so login tests can lease users that already exist.
+ * The UI module does not depend on the REST Assured client, so this posts to /auth/register
+ * with the JDK HTTP client.
+ * Registered in META-INF/services for {@link com.skillboost.common.accounts.AccountPoolSessionListener}.
+ */
+public class UiAccountRegistrar implements AccountRegistrar {
+
+    private static final String REGISTER_PATH = "/auth/register";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public UiAccountRegistrar() {
+        this(ConfigReader.getApiBaseUrl());
+    }
+
+    public UiAccountRegistrar(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public Outcome register(TestAccount account) {
+        if (baseUrl.isBlank()) {
+            throw new IllegalStateException("no apiBaseUrl for the active environment in ui-config.json");
+        }
+        try {
+            String body = mapper.writeValueAsString(Map.of("email", account.email(), "password", account.password()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + REGISTER_PATH))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 == 2) {
+                return Outcome.CREATED;
+            }
+            if (response.statusCode() == 409) {
+                return Outcome.ALREADY_REGISTERED;
+            }
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while registering " + account.email(), e);
+        }
+    }
+}
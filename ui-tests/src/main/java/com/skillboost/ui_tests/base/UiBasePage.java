@@ -1,7 +1,11 @@
 package com.skillboost.ui_tests.base;
 
+import com.skillboost.common.impact.ImpactTracer;
 import com.skillboost.ui_tests.utils.AssertionLogger;
 import com.skillboost.ui_tests.utils.DriverFactory;
+import com.skillboost.ui_tests.utils.NetworkRecorder;
+import com.skillboost.ui_tests.utils.PagePerformanceCollector;
+import com.skillboost.ui_tests.utils.StepTracer;
 import com.skillboost.ui_tests.utils.WaitUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -12,17 +16,39 @@ import org.slf4j.LoggerFactory;
 /**
  * Base class for all SkillBoost UI Page Objects.
  * Provides shared Selenium actions, logging, and assertion utilities.
+ * Actions are traced as steps when Chrome step tracing is enabled (see {@link StepTracer}).
  */
 public abstract class UiBasePage {
 
     protected final WebDriver driver;
     protected static final Logger log = LoggerFactory.getLogger(UiBasePage.class);
 
+    // Set once this page object was seen in the browser; cleared by navigateTo
+    private boolean shown;
+
     /**
      * Initializes the UiBasePage with the shared WebDriver instance.
+     * Tests create page objects before the browser shows them, so network attribution and front-end
+     * performance are tied to the page being displayed (see {@link #pageShown()}), not to construction.
      */
     protected UiBasePage(WebDriver driver) {
         this.driver = driver != null ? driver : DriverFactory.getDriver();
+        ImpactTracer.touch(getClass());
+    }
+
+    /**
+     * Called after navigateTo and when one of this page's own elements was found, i.e. the browser
+     * is showing this page: names the current network page view after it ({@link NetworkRecorder})
+     * and measures its performance when enabled. Runs once per navigation, or on the first lookup
+     * of a page object reached without one, so element lookups cost no extra browser round trips.
+     */
+    private void pageShown() {
+        if (shown) {
+            return;
+        }
+        shown = true;
+        NetworkRecorder.enterPage(getClass().getSimpleName());
+        PagePerformanceCollector.collect(driver, getClass().getSimpleName());
     }
 
 
@@ -31,7 +57,9 @@ public abstract class UiBasePage {
     // ─────────────────────────────
     public void navigateTo(String url) {
         log.info("Navigating to URL: {}", url);
-        driver.get(url);
+        StepTracer.trace(getClass().getSimpleName() + " navigate", () -> driver.get(url));
+        shown = false;
+        pageShown();
     }
 
     public String getCurrentUrl() {
@@ -51,19 +79,26 @@ public abstract class UiBasePage {
     // ─────────────────────────────
     protected WebElement find(By locator) {
         log.debug("Finding element: {}", locator);
-        return WaitUtils.waitForVisibility(locator);
+        WebElement element = WaitUtils.waitForVisibility(locator);
+        pageShown();
+        return element;
     }
 
     protected void click(By locator) {
         log.info("Clicking element: {}", locator);
-        WebElement element = WaitUtils.waitForClickability(locator);
-        element.click();
+        StepTracer.trace("click " + locator, () -> {
+            WebElement element = WaitUtils.waitForClickability(locator);
+            pageShown();
+            element.click();
+        });
     }
 
     protected static void click(WebElement element) {
         try {
-            WaitUtils.getWait().until(d -> element.isDisplayed() && element.isEnabled());
-            element.click();
+            StepTracer.trace("click element", () -> {
+                WaitUtils.getWait().until(d -> element.isDisplayed() && element.isEnabled());
+                element.click();
+            });
             log.info("Clicked on element: {}", element);
         } catch (Exception e) {
             log.error("Failed to click on element: {}", element, e);
@@ -73,15 +108,19 @@ public abstract class UiBasePage {
 
     protected void type(By locator, String text) {
         log.info("Typing into element: {} | Text='{}'", locator, text);
-        WebElement element = find(locator);
-        element.clear();
-        element.sendKeys(text);
+        StepTracer.trace("type " + locator, () -> {
+            WebElement element = find(locator);
+            element.clear();
+            element.sendKeys(text);
+        });
     }
 
     protected void type(WebElement element, String text) {
         log.info("Typing into WebElement: {} | Text='{}'", element, text);
-        element.clear();
-        element.sendKeys(text);
+        StepTracer.trace("type element", () -> {
+            element.clear();
+            element.sendKeys(text);
+        });
     }
 
     /**
@@ -102,14 +141,12 @@ public abstract class UiBasePage {
 
     protected void selectByVisibleText(By locator, String visibleText) {
         log.info("Selecting '{}' from dropdown: {}", visibleText, locator);
-        WebElement dropdown = find(locator);
-        new Select(dropdown).selectByVisibleText(visibleText);
+        StepTracer.trace("select " + locator, () -> new Select(find(locator)).selectByVisibleText(visibleText));
     }
 
     protected void hoverOver(By locator) {
         log.info("Hovering over element: {}", locator);
-        WebElement element = find(locator);
-        new Actions(driver).moveToElement(element).perform();
+        StepTracer.trace("hover " + locator, () -> new Actions(driver).moveToElement(find(locator)).perform());
     }
 
     // ─────────────────────────────
@@ -3,18 +3,28 @@ package com.skillboost.ui_tests.base;
 
 import com.skillboost.ui_tests.utils.ConfigReader;
 import com.skillboost.ui_tests.utils.DriverFactory;
+import com.skillboost.ui_tests.utils.FailureArtifactExtension;
+import com.skillboost.ui_tests.utils.NetworkRecorder;
+import com.skillboost.ui_tests.utils.PagePerformanceCollector;
 import com.skillboost.ui_tests.utils.WaitUtils;
 import io.qameta.allure.Step;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Base test class for all SkillBoost UI tests.
  * Handles WebDriver setup, teardown, and environment initialization.
+ * Failed tests get a screenshot, page source and console log attached (see {@link FailureArtifactExtension}).
  */
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(FailureArtifactExtension.class)
 public abstract class UiBaseTest {
 
     protected WebDriver driver;
@@ -33,8 +43,12 @@ public abstract class UiBaseTest {
 
     @BeforeEach
     @Step("Set up WebDriver before each test")
-    public void setUp() {
+    public void setUp(TestInfo testInfo) {
         log.info("----- Setting up WebDriver instance -----");
+        String testName = getClass().getSimpleName() + "#"
+                + testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName());
+        PagePerformanceCollector.startTest(testName);
+        NetworkRecorder.startTest(testName);
         DriverFactory.initializeDriver();
         driver = DriverFactory.getDriver();
         WaitUtils.resetWait();  // ensure fresh waits
@@ -46,7 +60,26 @@ public abstract class UiBaseTest {
     @Step("Clean up after each test")
     public void tearDown() {
         log.info("----- Cleaning up WebDriver instance -----");
+        List<String> budgetViolations = PagePerformanceCollector.finishTest();
+        List<String> networkViolations = NetworkRecorder.finishTest(); // needs the browser, so before quitting
         DriverFactory.quitDriver();
+
+        List<String> failures = new ArrayList<>();
+        if (!budgetViolations.isEmpty()) {
+            log.warn("Page performance budget exceeded: {}", budgetViolations);
+            if (ConfigReader.isPagePerformanceFailOnBudget()) {
+                failures.add("Page performance budget exceeded: " + String.join(", ", budgetViolations));
+            }
+        }
+        if (!networkViolations.isEmpty()) {
+            log.warn("Network budget exceeded: {}", networkViolations);
+            if (ConfigReader.isNetworkFailOnBudget()) {
+                failures.add("Network budget exceeded: " + String.join(", ", networkViolations));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.join("\n", failures));
+        }
     }
 
     @AfterAll
@@ -0,0 +1,123 @@
+package com.skillboost.ui_tests.utils;
+
+import io.qameta.allure.Allure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes failure artifacts into the Allure results directory on a single daemon thread, so the
+ * test thread (and the next test's browser session) never waits for disk I/O.
+ *
+ * The attachment is registered on the current test synchronously ({@link #submit}); only the bytes
+ * are written later. Text artifacts above ui.artifacts.compressAboveKb (default 256) are gzipped,
+ * smaller ones stay plain so Allure can show them inline. The queue is bounded
+ * (ui.artifacts.queue, default 64 artifacts queued or being written): a slot is reserved before the
+ * attachment is registered, so when the writer falls behind the artifact is dropped and counted
+ * without leaving an empty attachment in the report. Pending artifacts are flushed on JVM shutdown.
+ */
+public final class ArtifactWriter {
+
+    private static final int COMPRESS_ABOVE_BYTES = Integer.getInteger("ui.artifacts.compressAboveKb", 256) * 1024;
+    private static final int CAPACITY = Integer.getInteger("ui.artifacts.queue", 64);
+
+    // Bounded by the reservations in pending, not by the queue itself
+    private static final BlockingQueue<Artifact> queue = new LinkedBlockingQueue<>();
+    private static final LongAdder dropped = new LongAdder();
+    private static final AtomicInteger pending = new AtomicInteger();
+
+    static {
+        Thread writer = new Thread(ArtifactWriter::drain, "ui-artifact-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toMillis(10)), "ui-artifact-flush"));
+    }
+
+    private record Artifact(String source, byte[] content, boolean compress) {
+    }
+
+    private ArtifactWriter() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Attaches an artifact to the current Allure test and queues its content without blocking.
+     *
+     * @param text true for textual content that may be gzipped when large
+     * @return false if the queue was full and the artifact was dropped
+     */
+    public static boolean submit(String name, String type, String extension, byte[] content, boolean text) {
+        if (pending.incrementAndGet() > CAPACITY) {
+            pending.decrementAndGet();
+            dropped.increment();
+            System.out.println("⚠️ Failure artifact queue full, dropped '" + name + "' (" + dropped.sum() + " dropped so far)");
+            return false;
+        }
+
+        boolean compress = text && content.length > COMPRESS_ABOVE_BYTES;
+        try {
+            String source = compress
+                    ? Allure.getLifecycle().prepareAttachment(name + " (gzip)", "application/gzip", extension + ".gz")
+                    : Allure.getLifecycle().prepareAttachment(name, type, extension);
+            queue.add(new Artifact(source, content, compress));
+            return true;
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** Waits up to {@code timeoutMillis} for queued artifacts to be written. */
+    public static void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void drain() {
+        while (true) {
+            Artifact artifact;
+            try {
+                artifact = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                byte[] bytes = artifact.compress() ? gzip(artifact.content()) : artifact.content();
+                Allure.getLifecycle().writeAttachment(artifact.source(), new ByteArrayInputStream(bytes));
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ Could not write failure artifact " + artifact.source() + " → " + e.getMessage());
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -3,16 +3,17 @@ package com.skillboost.ui_tests.utils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * ConfigReader loads and provides environment-specific configuration data
  * for UI automation (Selenium + JUnit 5).
  *
- * Reads from: src/test/resources/ui/config/ui-config.json
+ * Reads from: ui/config/ui-config.json on the classpath (src/main/resources of ui-tests)
  *
  * Improvements:
  * - Safer environment selection
@@ -23,6 +24,8 @@ import java.util.Optional;
  */
 public final class ConfigReader {
 
+    private static final String CONFIG_RESOURCE = "ui/config/ui-config.json";
+
     private static JsonNode configRoot;
     private static JsonNode activeEnv;
 
@@ -38,17 +41,15 @@ public final class ConfigReader {
     // ─────────────────────────────────────────────
     private static void loadConfig() {
         try {
-            // CI-friendly path
-            String configPath = Paths.get("src", "test", "resources", "ui", "config", "ui-config.json").toString();
-            File file = new File(configPath);
-
-            if (!file.exists()) {
-                throw new IOException("Config file not found at: " + file.getAbsolutePath());
+            // Classpath lookup: works from the module directory, the reactor root and a packaged jar
+            try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(CONFIG_RESOURCE)) {
+                if (in == null) {
+                    throw new IOException("Config file not found on the classpath: " + CONFIG_RESOURCE);
+                }
+                ObjectMapper mapper = new ObjectMapper();
+                configRoot = mapper.readTree(in);
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            configRoot = mapper.readTree(file);
-
             // Which environment?
             String env = Optional.ofNullable(System.getProperty("environment"))
                     .orElse(configRoot.path("activeEnvironment").asText("dev"));
@@ -75,6 +76,13 @@ public final class ConfigReader {
         return activeEnv.path("baseUrl").asText();
     }
 
+    /**
+     * Backend the web app talks to; used to register pool accounts (empty when not configured).
+     */
+    public static String getApiBaseUrl() {
+        return System.getProperty("ui.apiBaseUrl", activeEnv.path("apiBaseUrl").asText(""));
+    }
+
     public static String getBrowser() {
         return activeEnv.path("browser")
                 .asText(configRoot.path("default").path("browser").asText("chrome"));
@@ -160,6 +168,71 @@ public final class ConfigReader {
     }
 
     public static boolean isVideoRecordingEnabled() {
-        return configRoot.path("default").path("reporting").path("videoRecording").asBoolean(false);
+        return Boolean.parseBoolean(System.getProperty("ui.video",
+                String.valueOf(configRoot.path("default").path("reporting").path("videoRecording").asBoolean(false))));
+    }
+
+    public static boolean isTracingEnabled() {
+        return Boolean.parseBoolean(System.getProperty("ui.trace",
+                String.valueOf(configRoot.path("default").path("reporting").path("tracing").asBoolean(false))));
+    }
+
+    // ─────────────────────────────────────────────
+    // ✅ Page Performance
+    // ─────────────────────────────────────────────
+    public static boolean isPagePerformanceEnabled() {
+        return Boolean.parseBoolean(System.getProperty("ui.perf.enabled",
+                String.valueOf(pagePerformance().path("enabled").asBoolean(false))));
+    }
+
+    public static boolean isPagePerformanceFailOnBudget() {
+        return Boolean.parseBoolean(System.getProperty("ui.perf.failOnBudget",
+                String.valueOf(pagePerformance().path("failOnBudget").asBoolean(false))));
+    }
+
+    public static int getPagePerformanceSettleMs() {
+        return pagePerformance().path("settleMs").asInt(200);
+    }
+
+    /**
+     * Budgets for one page object (by simple class name), falling back key by key to "default".
+     */
+    public static Map<String, Double> getPageBudget(String page) {
+        return budget(pagePerformance().path("budgets"), page);
+    }
+
+    private static JsonNode pagePerformance() {
+        return configRoot.path("default").path("pagePerformance");
+    }
+
+    // ─────────────────────────────────────────────
+    // ✅ Network Capture (HAR)
+    // ─────────────────────────────────────────────
+    public static boolean isNetworkCaptureEnabled() {
+        return Boolean.parseBoolean(System.getProperty("ui.network.enabled",
+                String.valueOf(networkCapture().path("enabled").asBoolean(false))));
+    }
+
+    public static boolean isNetworkFailOnBudget() {
+        return Boolean.parseBoolean(System.getProperty("ui.network.failOnBudget",
+                String.valueOf(networkCapture().path("failOnBudget").asBoolean(false))));
+    }
+
+    /**
+     * Network budget for one page object (by simple class name), falling back key by key to "default".
+     */
+    public static Map<String, Double> getNetworkBudget(String page) {
+        return budget(networkCapture().path("budgets"), page);
+    }
+
+    private static JsonNode networkCapture() {
+        return configRoot.path("default").path("networkCapture");
+    }
+
+    private static Map<String, Double> budget(JsonNode budgets, String page) {
+        Map<String, Double> budget = new LinkedHashMap<>();
+        budgets.path("default").fields().forEachRemaining(e -> budget.put(e.getKey(), e.getValue().asDouble()));
+        budgets.path(page).fields().forEachRemaining(e -> budget.put(e.getKey(), e.getValue().asDouble()));
+        return budget;
     }
 }
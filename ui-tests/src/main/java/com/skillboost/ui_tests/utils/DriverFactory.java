@@ -1,26 +1,39 @@
 package com.skillboost.ui_tests.utils;
 
+import com.skillboost.perf.baseline.PerfRecorder;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.logging.Level;
 
 /**
  * DriverFactory manages WebDriver initialization and cleanup.
  * Supports local and remote (Grid/Docker) execution modes.
  * Reads configuration dynamically from ConfigReader and system properties.
+ * Owns the driver's DevTools session: it is opened once for the opt-in DevTools features
+ * (StepTracer, NetworkRecorder, ScreenRecorder), which only add listeners to it, and closed once
+ * when the driver quits.
  */
 public final class DriverFactory {
 
     private static final ThreadLocal<WebDriver> driverThread = new ThreadLocal<>();
+    private static final ThreadLocal<DevTools> devToolsThread = new ThreadLocal<>();
 
     private DriverFactory() {
         // Prevent instantiation
@@ -66,6 +79,7 @@ public final class DriverFactory {
                         ChromeOptions options = new ChromeOptions();
                         if (headless) options.addArguments("--headless=new");
                         options.addArguments("--no-sandbox", "--disable-dev-shm-usage");
+                        options.setCapability(ChromeOptions.LOGGING_PREFS, browserConsoleLogs());
                         driver = new RemoteWebDriver(new URL(finalGridUrl), options);
                     }
                     case "firefox" -> {
@@ -88,6 +102,7 @@ public final class DriverFactory {
                         ChromeOptions options = new ChromeOptions();
                         if (headless) options.addArguments("--headless=new");
                         options.addArguments("--no-sandbox", "--disable-dev-shm-usage");
+                        options.setCapability(ChromeOptions.LOGGING_PREFS, browserConsoleLogs());
                         driver = new ChromeDriver(options);
                     }
                     case "firefox" -> {
@@ -111,6 +126,31 @@ public final class DriverFactory {
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
             driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
 
+            // Opt-in DevTools features (remote drivers need augmenting to expose DevTools)
+            boolean tracing = ConfigReader.isTracingEnabled();
+            boolean networkCapture = ConfigReader.isNetworkCaptureEnabled();
+            boolean video = ConfigReader.isVideoRecordingEnabled();
+            if ((tracing || networkCapture || video) && remote) {
+                driver = new Augmenter().augment(driver);
+            }
+            DevTools devTools = tracing || networkCapture || video ? openDevTools(driver) : null;
+            if (devTools != null) {
+                if (tracing) {
+                    StepTracer.attach(devTools);
+                }
+                if (networkCapture) {
+                    NetworkRecorder.attach(devTools);
+                }
+                if (video) {
+                    ScreenRecorder.attach(devTools);
+                }
+            }
+
+            // Per-command timings for the performance regression gate
+            if (PerfRecorder.ENABLED) {
+                driver = new EventFiringDecorator<WebDriver>(new WebDriverStepTimer()).decorate(driver);
+            }
+
             driverThread.set(driver);
 
             System.out.println("✅ WebDriver initialized → Mode: " + (remote ? "REMOTE" : "LOCAL") +
@@ -132,16 +172,79 @@ public final class DriverFactory {
         return driverThread.get();
     }
 
+    /**
+     * Returns the current thread's WebDriver, or null when none is running (never starts one).
+     */
+    public static WebDriver currentDriver() {
+        return driverThread.get();
+    }
+
+    /**
+     * Registers an externally created WebDriver for the current thread
+     * (e.g. a stub driver in benchmarks). Replaces any driver already registered.
+     */
+    public static void setDriver(WebDriver driver) {
+        driverThread.set(driver);
+    }
+
     /**
      * Quits and removes the WebDriver instance.
      */
     public static void quitDriver() {
         WebDriver driver = driverThread.get();
         if (driver != null) {
+            NetworkRecorder.finishTest(); // no-op when UiBaseTest already collected it
+            ScreenRecorder.detach(); // discards the recording unless the test failed
+            StepTracer.detach();
+            closeDevTools();
             driver.quit();
             driverThread.remove();
             WaitUtils.resetWait(); // Reset wait after quitting
             System.out.println("🧹 WebDriver session ended successfully.");
         }
     }
+
+    /**
+     * Opens the DevTools session shared by all DevTools features of the current thread's driver.
+     *
+     * @return null when the browser has no DevTools or the session cannot be opened
+     */
+    private static DevTools openDevTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            System.out.println("⚠️ Tracing, network capture and screen recording need a Chromium browser with DevTools, disabled");
+            return null;
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devToolsThread.set(devTools);
+            return devTools;
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Could not open a DevTools session, DevTools features disabled → " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeDevTools() {
+        DevTools devTools = devToolsThread.get();
+        devToolsThread.remove();
+        if (devTools == null) {
+            return;
+        }
+        try {
+            devTools.clearListeners();
+            devTools.close();
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Closing the DevTools session failed → " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps the browser console available to FailureArtifactExtension (Chromium only).
+     */
+    private static LoggingPreferences browserConsoleLogs() {
+        LoggingPreferences preferences = new LoggingPreferences();
+        preferences.enable(LogType.BROWSER, Level.ALL);
+        return preferences;
+    }
 }
@@ -0,0 +1,83 @@
+package com.skillboost.ui_tests.utils;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Captures the browser state of a failed UI test: screenshot, page source, browser console and URL,
+ * and keeps the test's screen recording when reporting.videoRecording is on.
+ *
+ * Runs right after the test method, before the @AfterEach that releases the driver. Only the
+ * capture happens on the test thread; writing is handed to {@link ArtifactWriter}. Honors
+ * screenshotOnFailure / reporting.screenshots, savePageSourceOnFailure and reporting.logs
+ * from ui-config.json. A capture that fails is logged and never hides the test's own failure.
+ */
+public class FailureArtifactExtension implements AfterTestExecutionCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(FailureArtifactExtension.class);
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isEmpty()) {
+            return;
+        }
+        WebDriver driver = DriverFactory.currentDriver();
+        if (driver == null) {
+            return;
+        }
+        String test = context.getDisplayName();
+
+        if (ConfigReader.isScreenshotOnFailure() && ConfigReader.isReportingScreenshots()
+                && driver instanceof TakesScreenshot screenshots) {
+            capture("screenshot", () -> ArtifactWriter.submit("Screenshot on failure", "image/png", ".png",
+                    screenshots.getScreenshotAs(OutputType.BYTES), false));
+        }
+
+        if (ConfigReader.isSavePageSourceOnFailure()) {
+            capture("page source", () -> ArtifactWriter.submit("Page source on failure", "text/html", ".html",
+                    driver.getPageSource().getBytes(StandardCharsets.UTF_8), true));
+        }
+
+        capture("url", () -> ArtifactWriter.submit("Browser state on failure", "text/plain", ".txt",
+                ("Test:  " + test + "\nURL:   " + driver.getCurrentUrl() + "\nTitle: " + driver.getTitle() + "\n")
+                        .getBytes(StandardCharsets.UTF_8), true));
+
+        if (ConfigReader.isReportingLogs()) {
+            capture("console log", () -> {
+                StringBuilder console = new StringBuilder();
+                for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                    console.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                            .append(entry.getLevel()).append(' ').append(entry.getMessage()).append('\n');
+                }
+                if (!console.isEmpty()) {
+                    ArtifactWriter.submit("Browser console on failure", "text/plain", ".txt",
+                            console.toString().getBytes(StandardCharsets.UTF_8), true);
+                }
+            });
+        }
+
+        if (ConfigReader.isVideoRecordingEnabled()) {
+            ScreenRecorder.keepForFailedTest();
+        }
+    }
+
+    private static void capture(String what, Runnable capture) {
+        try {
+            capture.run();
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // e.g. the browser crashed, or it does not expose console logs (Firefox)
+            log.warn("Could not capture {} on failure -> {}", what, e.getMessage());
+        }
+    }
+}
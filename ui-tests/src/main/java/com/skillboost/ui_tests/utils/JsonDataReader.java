@@ -4,6 +4,8 @@ package com.skillboost.ui_tests.utils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.common.impact.ImpactTracer;
+import com.skillboost.common.testdata.CompiledTestData;
 
 import java.io.File;
 import java.io.IOException;
@@ -16,10 +18,14 @@ import java.util.Map;
  *
  * Supports retrieving values by key, mapping to POJOs,
  * or returning full nested structures.
+ *
+ * Files are served from the build-time compiled artifact (see CompiledTestData)
+ * when it is up to date, and parsed from the JSON source otherwise.
  */
 public final class JsonDataReader {
 
     private static final String TESTDATA_PATH = "src/test/resources/ui/testdata/";
+    private static final String TESTDATA_KEY = "ui/testdata/";
     private static final ObjectMapper mapper = new ObjectMapper();
 
     private JsonDataReader() {
@@ -37,6 +43,11 @@ public final class JsonDataReader {
      */
     public static JsonNode readJson(String fileName) {
         validateFileExtension(fileName);
+        ImpactTracer.touch(TESTDATA_KEY + fileName);
+        return CompiledTestData.file(TESTDATA_KEY + fileName).orElseGet(() -> parseJson(fileName));
+    }
+
+    private static JsonNode parseJson(String fileName) {
         try {
             File file = new File(TESTDATA_PATH + fileName);
             return mapper.readTree(file);
@@ -51,8 +62,7 @@ public final class JsonDataReader {
     public static <T> T readJsonAsObject(String fileName, Class<T> clazz) {
         validateFileExtension(fileName);
         try {
-            File file = new File(TESTDATA_PATH + fileName);
-            return mapper.readValue(file, clazz);
+            return mapper.treeToValue(readJson(fileName), clazz);
         } catch (IOException e) {
             throw new RuntimeException("Failed to map JSON to object: " + fileName, e);
         }
@@ -71,9 +81,8 @@ public final class JsonDataReader {
     public static Map<String, Map<String, String>> getTestData(String fileName) {
         validateFileExtension(fileName);
         try {
-            File file = new File(TESTDATA_PATH + fileName);
-            return mapper.readValue(file, new TypeReference<Map<String, Map<String, String>>>() {});
-        } catch (IOException e) {
+            return mapper.convertValue(readJson(fileName), new TypeReference<Map<String, Map<String, String>>>() {});
+        } catch (IllegalArgumentException e) {
             throw new RuntimeException("Failed to parse JSON test data: " + fileName, e);
         }
     }
@@ -85,11 +94,13 @@ public final class JsonDataReader {
      */
     public static String getValue(String fileName, String keyPath) {
         validateFileExtension(fileName);
-        JsonNode node = readJson(fileName);
-
         String[] keys = keyPath.split("\\.");
-        for (String key : keys) {
-            node = node.path(key);
+
+        // Only the first segment's scenario is decoded when the compiled artifact is available
+        JsonNode node = CompiledTestData.scenario(TESTDATA_KEY + fileName, keys[0])
+                .orElseGet(() -> readJson(fileName).path(keys[0]));
+        for (int i = 1; i < keys.length; i++) {
+            node = node.path(keys[i]);
         }
 
         if (node.isMissingNode() || node.isNull()) {
@@ -0,0 +1,492 @@
+package com.skillboost.ui_tests.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the browser's network traffic through the CDP Network domain and writes one HAR 1.2
+ * file per test (target/har), with a compact summary attached to Allure: request count, bytes
+ * per resource type, slowest, largest and failed requests.
+ *
+ * Requests are grouped into page views. A main-frame document request starts a new view, named
+ * after its URL path until the page object shown on it claims it (see UiBasePage); a different
+ * page object shown on the same document (a client-side route change) starts another view.
+ * Each page's traffic is checked against its budget from networkCapture.budgets in ui-config.json:
+ * requests, transferKb, largestKb (a single response, e.g. a new 2 MB bundle), slowestMs and
+ * failedRequests (transport errors and 5xx; 4xx are often expected, e.g. a 401 probe, and
+ * canceled requests are routine on navigation). Violations fail the test only with
+ * networkCapture.failOnBudget.
+ *
+ * Opt-in with networkCapture.enabled or -Dui.network.enabled=true (Chromium only, see DriverFactory).
+ * Capture problems are logged, not thrown.
+ */
+public final class NetworkRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkRecorder.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Path HAR_DIR = Paths.get(System.getProperty("ui.har.dir", "target/har"));
+    private static final int TOP = 5;
+
+    private static final ThreadLocal<String> currentTest = ThreadLocal.withInitial(() -> "unknown");
+    private static final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    private NetworkRecorder() {
+        // Prevent instantiation
+    }
+
+    /**
+     * One request/response exchange, filled in as the CDP events arrive.
+     */
+    static final class Entry {
+        final PageView page;
+        final String method;
+        final String url;
+        final String resourceType;
+        final Map<String, Object> requestHeaders;
+        final double wallTime;
+        final double startTs;
+        volatile int status;
+        volatile String statusText = "";
+        volatile String mimeType = "";
+        volatile String protocol = "";
+        volatile Map<String, Object> responseHeaders = Map.of();
+        volatile double responseTs = -1;
+        volatile double endTs = -1;
+        volatile long transferBytes;
+        volatile String error;
+
+        Entry(PageView page, String method, String url, String resourceType,
+              Map<String, Object> requestHeaders, double wallTime, double startTs) {
+            this.page = page;
+            this.method = method;
+            this.url = url;
+            this.resourceType = resourceType;
+            this.requestHeaders = requestHeaders;
+            this.wallTime = wallTime;
+            this.startTs = startTs;
+        }
+
+        double totalMs() {
+            return endTs < 0 ? 0 : (endTs - startTs) * 1000;
+        }
+
+        boolean failed() {
+            return error != null ? !"canceled".equals(error) : status >= 500;
+        }
+    }
+
+    /**
+     * One main-frame document, or one page object shown on it after a client-side route change.
+     */
+    static final class PageView {
+        final String id;
+        volatile String name;
+        volatile boolean claimed;
+
+        PageView(String id, String name, boolean claimed) {
+            this.id = id;
+            this.name = name;
+            this.claimed = claimed;
+        }
+    }
+
+    /**
+     * Network events of one driver, collected from the DevTools thread.
+     */
+    private static final class Session {
+        final DevTools devTools;
+        final Map<String, Entry> inFlight = new ConcurrentHashMap<>();
+        final List<Entry> entries = new ArrayList<>();
+        final List<PageView> pages = new ArrayList<>();
+        volatile PageView current;
+        volatile String mainFrameId;
+
+        Session(DevTools devTools) {
+            this.devTools = devTools;
+            startView("start", false);
+        }
+
+        synchronized PageView startView(String name, boolean claimed) {
+            current = new PageView("page_" + (pages.size() + 1), name, claimed);
+            pages.add(current);
+            return current;
+        }
+
+        synchronized void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        synchronized List<Entry> snapshot() {
+            return List.copyOf(entries);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Lifecycle
+    // ─────────────────────────────────────────────
+
+    /**
+     * Enables the Network domain on the driver's DevTools session for the current thread. Called by DriverFactory.
+     */
+    public static void attach(DevTools devTools) {
+        try {
+            Session session = new Session(devTools);
+            devTools.addListener(event("Network.requestWillBeSent"), e -> onRequest(session, e));
+            devTools.addListener(event("Network.responseReceived"), e -> onResponse(session, e));
+            devTools.addListener(event("Network.loadingFinished"), e -> onFinished(session, e));
+            devTools.addListener(event("Network.loadingFailed"), e -> onFailed(session, e));
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            sessions.set(session);
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Could not enable network capture → " + e.getMessage());
+        }
+    }
+
+    /**
+     * Names the HAR of the current thread's test; called by UiBaseTest before each test.
+     */
+    public static void startTest(String testName) {
+        currentTest.set(testName);
+    }
+
+    /**
+     * Names the current page view after the page object the browser is showing. Called by
+     * UiBasePage once the page is displayed; the requests of its document are attributed to it,
+     * including those sent before the page object was found.
+     */
+    public static void enterPage(String page) {
+        Session session = sessions.get();
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            PageView current = session.current;
+            if (!current.claimed) {
+                current.name = page;
+                current.claimed = true;
+            } else if (!current.name.equals(page)) {
+                session.startView(page, true); // soft navigation within the same document
+            }
+        }
+    }
+
+    /**
+     * Writes the test's HAR, attaches it with its summary and returns the budget violations.
+     * Must run before the driver quits. Returns nothing when capture is not active.
+     */
+    public static List<String> finishTest() {
+        Session session = sessions.get();
+        sessions.remove();
+        String test = currentTest.get();
+        currentTest.remove();
+        if (session == null) {
+            return List.of();
+        }
+        try {
+            session.devTools.send(new Command<>("Network.disable", Map.of()));
+        } catch (WebDriverException e) {
+            log.debug("Network.disable failed -> {}", e.getMessage());
+        }
+
+        List<Entry> entries = session.snapshot();
+        List<PageView> pages;
+        synchronized (session) {
+            pages = List.copyOf(session.pages);
+        }
+
+        Path file = HAR_DIR.resolve(test.replaceAll("[^A-Za-z0-9._#-]+", "_") + ".har");
+        try {
+            Files.createDirectories(HAR_DIR);
+            MAPPER.writeValue(file.toFile(), har(pages, entries));
+            Allure.addAttachment("HAR — " + test, "application/json", Files.readString(file), ".har");
+        } catch (IOException e) {
+            log.warn("Could not write HAR {} -> {}", file, e.getMessage());
+        }
+
+        List<String> violations = checkBudgets(entries);
+        String summary = summary(test, entries) + (violations.isEmpty() ? "" : "\nBudget exceeded: " + String.join(", ", violations));
+        Allure.addAttachment("Network summary — " + test, "text/plain", summary, ".txt");
+        log.info("Network: {}", summary);
+        return violations;
+    }
+
+    // ─────────────────────────────────────────────
+    // CDP events (DevTools thread)
+    // ─────────────────────────────────────────────
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static void onRequest(Session session, Map<String, Object> event) {
+        String id = String.valueOf(event.get("requestId"));
+        Map<String, Object> redirect = map(event.get("redirectResponse"));
+        Entry previous = session.inFlight.remove(id);
+        if (previous != null && !redirect.isEmpty()) {
+            // The same requestId continues after a redirect: close the hop that was redirected
+            applyResponse(previous, redirect, number(event.get("timestamp")));
+            previous.endTs = number(event.get("timestamp"));
+        }
+
+        Map<String, Object> request = map(event.get("request"));
+        if (previous == null && isMainFrameDocument(session, id, event)) {
+            session.startView(documentName(String.valueOf(request.get("url"))), false);
+        }
+        Entry entry = new Entry(session.current,
+                String.valueOf(request.getOrDefault("method", "GET")),
+                String.valueOf(request.get("url")),
+                String.valueOf(event.getOrDefault("type", "Other")),
+                map(request.get("headers")),
+                number(event.get("wallTime")),
+                number(event.get("timestamp")));
+        session.inFlight.put(id, entry);
+        session.add(entry);
+    }
+
+    /**
+     * A navigation request of the top-level document: its requestId is the new document's loaderId.
+     * The first such request identifies the main frame; iframe documents come from other frames.
+     */
+    private static boolean isMainFrameDocument(Session session, String id, Map<String, Object> event) {
+        if (!"Document".equals(event.get("type")) || !id.equals(String.valueOf(event.get("loaderId")))) {
+            return false;
+        }
+        String frameId = String.valueOf(event.get("frameId"));
+        if (session.mainFrameId == null) {
+            session.mainFrameId = frameId;
+        }
+        return session.mainFrameId.equals(frameId);
+    }
+
+    private static String documentName(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? url : path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static void onResponse(Session session, Map<String, Object> event) {
+        Entry entry = session.inFlight.get(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            applyResponse(entry, map(event.get("response")), number(event.get("timestamp")));
+        }
+    }
+
+    private static void onFinished(Session session, Map<String, Object> event) {
+        Entry entry = session.inFlight.remove(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            entry.transferBytes = (long) number(event.get("encodedDataLength"));
+            entry.endTs = number(event.get("timestamp"));
+        }
+    }
+
+    private static void onFailed(Session session, Map<String, Object> event) {
+        Entry entry = session.inFlight.remove(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            entry.error = Boolean.TRUE.equals(event.get("canceled")) ? "canceled" : String.valueOf(event.get("errorText"));
+            entry.endTs = number(event.get("timestamp"));
+        }
+    }
+
+    private static void applyResponse(Entry entry, Map<String, Object> response, double timestamp) {
+        entry.status = (int) number(response.get("status"));
+        entry.statusText = String.valueOf(response.getOrDefault("statusText", ""));
+        entry.mimeType = String.valueOf(response.getOrDefault("mimeType", ""));
+        entry.protocol = String.valueOf(response.getOrDefault("protocol", ""));
+        entry.responseHeaders = map(response.get("headers"));
+        entry.responseTs = timestamp;
+    }
+
+    // ─────────────────────────────────────────────
+    // HAR 1.2
+    // ─────────────────────────────────────────────
+
+    static Map<String, Object> har(List<PageView> pages, List<Entry> entries) {
+        List<Map<String, Object>> harPages = new ArrayList<>();
+        for (PageView page : pages) {
+            Instant started = entries.stream().filter(e -> e.page == page).findFirst()
+                    .map(e -> wallClock(e.wallTime)).orElse(null);
+            if (started == null && !page.claimed) {
+                continue; // e.g. the initial about:blank view
+            }
+            harPages.add(ordered("startedDateTime", (started != null ? started : Instant.now()).toString(),
+                    "id", page.id, "title", page.name, "pageTimings", Map.of()));
+        }
+
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        for (Entry e : entries) {
+            double waitMs = e.responseTs < 0 ? 0 : (e.responseTs - e.startTs) * 1000;
+            double receiveMs = e.endTs < 0 || e.responseTs < 0 ? 0 : (e.endTs - e.responseTs) * 1000;
+            harEntries.add(ordered(
+                    "pageref", e.page.id,
+                    "startedDateTime", wallClock(e.wallTime).toString(),
+                    "time", e.totalMs(),
+                    "request", ordered("method", e.method, "url", e.url, "httpVersion", httpVersion(e.protocol),
+                            "cookies", List.of(), "headers", headers(e.requestHeaders),
+                            "queryString", queryString(e.url), "headersSize", -1, "bodySize", -1),
+                    "response", ordered("status", e.status, "statusText", e.statusText,
+                            "httpVersion", httpVersion(e.protocol), "cookies", List.of(),
+                            "headers", headers(e.responseHeaders),
+                            "content", ordered("size", e.transferBytes, "mimeType", e.mimeType),
+                            "redirectURL", String.valueOf(e.responseHeaders.getOrDefault("location", "")),
+                            "headersSize", -1, "bodySize", e.transferBytes,
+                            "_transferSize", e.transferBytes, "_error", e.error),
+                    "cache", Map.of(),
+                    "timings", ordered("blocked", -1, "dns", -1, "connect", -1, "send", 0,
+                            "wait", waitMs, "receive", receiveMs, "ssl", -1),
+                    "_resourceType", e.resourceType));
+        }
+
+        return Map.of("log", ordered(
+                "version", "1.2",
+                "creator", ordered("name", "SkillBoostQA NetworkRecorder", "version", "1.0"),
+                "pages", harPages,
+                "entries", harEntries));
+    }
+
+    // ─────────────────────────────────────────────
+    // Summary and budgets
+    // ─────────────────────────────────────────────
+
+    static String summary(String test, List<Entry> entries) {
+        long bytes = entries.stream().mapToLong(e -> e.transferBytes).sum();
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%s — %d requests, %.1f KB transferred%n",
+                test, entries.size(), bytes / 1024.0));
+
+        Map<String, long[]> byType = new TreeMap<>();
+        for (Entry e : entries) {
+            long[] totals = byType.computeIfAbsent(e.resourceType, k -> new long[2]);
+            totals[0]++;
+            totals[1] += e.transferBytes;
+        }
+        text.append("\nBy type:\n");
+        byType.forEach((type, totals) -> text.append(String.format(Locale.ROOT, "  %-12s %5d req %10.1f KB%n",
+                type, totals[0], totals[1] / 1024.0)));
+
+        appendTop(text, "Slowest", entries, Comparator.comparingDouble(Entry::totalMs));
+        appendTop(text, "Largest", entries, Comparator.comparingLong(e -> e.transferBytes));
+
+        List<Entry> failed = entries.stream().filter(Entry::failed).toList();
+        if (!failed.isEmpty()) {
+            text.append("\nFailed:\n");
+            failed.forEach(e -> text.append(String.format(Locale.ROOT, "  %s %s %s%n",
+                    e.error != null ? e.error : String.valueOf(e.status), e.method, e.url)));
+        }
+        return text.toString();
+    }
+
+    private static void appendTop(StringBuilder text, String title, List<Entry> entries, Comparator<Entry> order) {
+        text.append('\n').append(title).append(":\n");
+        entries.stream().sorted(order.reversed()).limit(TOP).forEach(e -> text.append(String.format(Locale.ROOT,
+                "  %8.0f ms %10.1f KB  [%s] %s%n", e.totalMs(), e.transferBytes / 1024.0, e.page.name, e.url)));
+    }
+
+    /**
+     * Checks every page's traffic against its budget from ui-config.json.
+     */
+    static List<String> checkBudgets(List<Entry> entries) {
+        Map<String, List<Entry>> byPage = new LinkedHashMap<>();
+        entries.forEach(e -> byPage.computeIfAbsent(e.page.name, k -> new ArrayList<>()).add(e));
+
+        List<String> violations = new ArrayList<>();
+        byPage.forEach((page, pageEntries) -> {
+            Map<String, Double> actual = Map.of(
+                    "requests", (double) pageEntries.size(),
+                    "transferKb", pageEntries.stream().mapToLong(e -> e.transferBytes).sum() / 1024.0,
+                    "largestKb", pageEntries.stream().mapToLong(e -> e.transferBytes).max().orElse(0) / 1024.0,
+                    "slowestMs", pageEntries.stream().mapToDouble(Entry::totalMs).max().orElse(0),
+                    "failedRequests", (double) pageEntries.stream().filter(Entry::failed).count());
+            ConfigReader.getNetworkBudget(page).forEach((key, limit) -> {
+                Double value = actual.get(key);
+                if (value != null && value > limit) {
+                    violations.add(String.format(Locale.ROOT, "%s %s %.1f > %s", page, key, value, limit));
+                }
+            });
+        });
+        return violations;
+    }
+
+    // ─────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────
+
+    private static Map<String, Object> ordered(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (keyValues[i + 1] != null) {
+                map.put((String) keyValues[i], keyValues[i + 1]);
+            }
+        }
+        return map;
+    }
+
+    private static List<Map<String, Object>> headers(Map<String, Object> headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        headers.forEach((name, value) -> list.add(ordered("name", name, "value", String.valueOf(value))));
+        return list;
+    }
+
+    private static List<Map<String, Object>> queryString(String url) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        try {
+            String query = URI.create(url).getRawQuery();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    int eq = pair.indexOf('=');
+                    list.add(ordered("name", eq < 0 ? pair : pair.substring(0, eq), "value", eq < 0 ? "" : pair.substring(eq + 1)));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // data: URLs and other non-hierarchical URIs carry no query string
+        }
+        return list;
+    }
+
+    private static String httpVersion(String protocol) {
+        return switch (protocol.toLowerCase(Locale.ROOT)) {
+            case "h2" -> "HTTP/2.0";
+            case "h3" -> "HTTP/3.0";
+            case "http/1.0" -> "HTTP/1.0";
+            case "" -> "";
+            default -> "HTTP/1.1";
+        };
+    }
+
+    private static Instant wallClock(double epochSeconds) {
+        return Instant.ofEpochMilli((long) (epochSeconds * 1000));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map<?, ?> m ? (Map<String, Object>) m : Map.of();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0;
+    }
+}
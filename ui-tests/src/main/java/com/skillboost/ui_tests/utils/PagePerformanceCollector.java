@@ -0,0 +1,258 @@
+package com.skillboost.ui_tests.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillboost.perf.baseline.PerfRecorder;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects front-end performance metrics of the page currently loaded in the browser:
+ * Navigation Timing (TTFB, DOMContentLoaded, load), paint timings (FCP, LCP), CLS, transfer size
+ * and DOM node count, read through the Performance API and buffered PerformanceObservers.
+ *
+ * Called by UiBasePage once per navigation, or when a page object first finds one of its own elements
+ * (the page is then known to be displayed), when pagePerformance.enabled is set in ui-config.json
+ * (or -Dui.perf.enabled=true). A cheap check of performance.timeOrigin skips a document already
+ * measured for the same page, e.g. a page object re-created on it. Each measurement is
+ *   - appended to target/ui-perf/page-metrics.jsonl (per test, per page)
+ *   - attached to the Allure report
+ *   - fed to the {@link PerfRecorder} so the regression gate compares pages across builds
+ *   - checked against the page's budget from ui-config.json; violations are reported when the test
+ *     finishes (see {@link #finishTest()}) and fail it only with pagePerformance.failOnBudget
+ *
+ * A page shown after a client-side route change shares the document of the previous page; such
+ * soft navigations only report the DOM node count and CLS.
+ * Collection problems are logged and never fail a functional test.
+ */
+public final class PagePerformanceCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(PagePerformanceCollector.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Path OUTPUT = Paths.get("target", "ui-perf", "page-metrics.jsonl");
+
+    private static final String DOCUMENT_SCRIPT = "return String(performance.timeOrigin);";
+
+    private static final String SCRIPT = """
+            const settleMs = arguments[0];
+            const done = arguments[arguments.length - 1];
+            function collect() {
+              const lcp = [], shifts = [];
+              const observe = (type, sink) => {
+                try {
+                  const observer = new PerformanceObserver(list => sink.push(...list.getEntries()));
+                  observer.observe({type: type, buffered: true});
+                  return observer;
+                } catch (e) { return null; }
+              };
+              const observers = [observe('largest-contentful-paint', lcp), observe('layout-shift', shifts)];
+              setTimeout(() => {
+                observers.forEach(o => o && o.disconnect());
+                let cls = 0, session = 0, first = 0, last = 0;
+                for (const s of shifts) {
+                  if (s.hadRecentInput) continue;
+                  if (session && s.startTime - last < 1000 && s.startTime - first < 5000) { session += s.value; }
+                  else { session = s.value; first = s.startTime; }
+                  last = s.startTime;
+                  cls = Math.max(cls, session);
+                }
+                const nav = performance.getEntriesByType('navigation')[0] || {};
+                const fcp = performance.getEntriesByName('first-contentful-paint')[0];
+                const resources = performance.getEntriesByType('resource');
+                done({
+                  url: location.href,
+                  ttfbMs: nav.responseStart || null,
+                  domContentLoadedMs: nav.domContentLoadedEventEnd || null,
+                  loadMs: nav.loadEventEnd || null,
+                  fcpMs: fcp ? fcp.startTime : null,
+                  lcpMs: lcp.length ? lcp[lcp.length - 1].startTime : null,
+                  cls: cls,
+                  transferBytes: (nav.transferSize || 0) + resources.reduce((sum, r) => sum + (r.transferSize || 0), 0),
+                  requests: resources.length + 1,
+                  domNodes: document.getElementsByTagName('*').length
+                });
+              }, settleMs);
+            }
+            (function waitForLoad() {
+              document.readyState === 'complete' ? collect() : setTimeout(waitForLoad, 50);
+            })();
+            """;
+
+    private static final ThreadLocal<String> currentTest = ThreadLocal.withInitial(() -> "unknown");
+    private static final ThreadLocal<String> lastMeasured = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> violations = ThreadLocal.withInitial(ArrayList::new);
+
+    private PagePerformanceCollector() {
+        // Prevent instantiation
+    }
+
+    /**
+     * One measurement. Timings are milliseconds since navigation start; null when the browser did
+     * not report them (e.g. LCP in Firefox, or navigation timings on a soft navigation).
+     */
+    public record PageMetrics(String test, String page, String url, boolean softNavigation,
+                              Double ttfbMs, Double domContentLoadedMs, Double loadMs,
+                              Double fcpMs, Double lcpMs, double cls,
+                              long transferBytes, long requests, long domNodes) {
+
+        /** Metric values by budget key; navigation metrics are left out on soft navigations. */
+        Map<String, Double> values() {
+            Map<String, Double> values = new LinkedHashMap<>();
+            if (!softNavigation) {
+                values.put("ttfbMs", ttfbMs);
+                values.put("domContentLoadedMs", domContentLoadedMs);
+                values.put("loadMs", loadMs);
+                values.put("fcpMs", fcpMs);
+                values.put("lcpMs", lcpMs);
+                values.put("transferKb", transferBytes / 1024.0);
+            }
+            values.put("cls", cls);
+            values.put("domNodes", (double) domNodes);
+            return values;
+        }
+    }
+
+    /**
+     * Names the measurements of the current thread's test; called by UiBaseTest before each test.
+     */
+    public static void startTest(String testName) {
+        currentTest.set(testName);
+        lastMeasured.remove();
+        violations.get().clear();
+    }
+
+    /**
+     * Ends the current test and returns the budget violations measured during it.
+     */
+    public static List<String> finishTest() {
+        List<String> found = List.copyOf(violations.get());
+        violations.get().clear();
+        lastMeasured.remove();
+        currentTest.remove();
+        return found;
+    }
+
+    /**
+     * Measures the page currently loaded in the driver under the page object's name.
+     * Does nothing when page performance collection is disabled.
+     */
+    public static void collect(WebDriver driver, String page) {
+        if (!ConfigReader.isPagePerformanceEnabled() || !(driver instanceof JavascriptExecutor js)) {
+            return;
+        }
+        try {
+            String document = String.valueOf(js.executeScript(DOCUMENT_SCRIPT));
+            String measured = document + "|" + page;
+            if (measured.equals(lastMeasured.get())) {
+                return; // this page on this document was already measured, e.g. by an earlier action
+            }
+            Object raw = js.executeAsyncScript(SCRIPT, ConfigReader.getPagePerformanceSettleMs());
+            if (!(raw instanceof Map<?, ?> result)) {
+                return;
+            }
+            boolean softNavigation = lastMeasured.get() != null && lastMeasured.get().startsWith(document + "|");
+            lastMeasured.set(measured);
+
+            PageMetrics metrics = new PageMetrics(currentTest.get(), page, String.valueOf(result.get("url")), softNavigation,
+                    number(result.get("ttfbMs")), number(result.get("domContentLoadedMs")), number(result.get("loadMs")),
+                    number(result.get("fcpMs")), number(result.get("lcpMs")), orZero(result.get("cls")),
+                    (long) orZero(result.get("transferBytes")), (long) orZero(result.get("requests")),
+                    (long) orZero(result.get("domNodes")));
+            record(metrics);
+        } catch (WebDriverException e) {
+            log.warn("Page performance collection failed for {} -> {}", page, e.getMessage());
+        }
+    }
+
+    private static void record(PageMetrics metrics) {
+        String line;
+        try {
+            line = MAPPER.writeValueAsString(metrics);
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to serialize page metrics → " + e.getMessage(), e);
+        }
+        append(line);
+
+        if (!metrics.softNavigation()) {
+            for (String timing : new String[]{"ttfbMs", "fcpMs", "lcpMs", "loadMs"}) {
+                Double value = metrics.values().get(timing);
+                if (value != null) {
+                    PerfRecorder.record("page", metrics.page() + " " + timing.replace("Ms", ""),
+                            TimeUnit.MICROSECONDS.toNanos((long) (value * 1000)));
+                }
+            }
+        }
+
+        List<String> exceeded = checkBudget(metrics);
+        violations.get().addAll(exceeded);
+
+        String summary = summary(metrics) + (exceeded.isEmpty() ? "" : "\nBudget exceeded: " + String.join(", ", exceeded));
+        Allure.addAttachment("Page performance — " + metrics.page(), "text/plain", summary, ".txt");
+        if (exceeded.isEmpty()) {
+            log.info("Page performance: {}", summary);
+        } else {
+            log.warn("Page performance: {}", summary);
+        }
+    }
+
+    /**
+     * Compares the metrics with the page's budget from ui-config.json.
+     */
+    static List<String> checkBudget(PageMetrics metrics) {
+        List<String> exceeded = new ArrayList<>();
+        Map<String, Double> values = metrics.values();
+        ConfigReader.getPageBudget(metrics.page()).forEach((key, limit) -> {
+            Double actual = values.get(key);
+            if (actual != null && actual > limit) {
+                exceeded.add(String.format(Locale.ROOT, "%s %s %.3f > %s", metrics.page(), key, actual, limit));
+            }
+        });
+        return exceeded;
+    }
+
+    private static String summary(PageMetrics m) {
+        return String.format(Locale.ROOT,
+                "%s (%s)%s — TTFB %s, DCL %s, load %s, FCP %s, LCP %s, CLS %.3f, %.0f KB in %d requests, %d DOM nodes",
+                m.page(), m.url(), m.softNavigation() ? " [soft navigation]" : "",
+                ms(m.ttfbMs()), ms(m.domContentLoadedMs()), ms(m.loadMs()), ms(m.fcpMs()), ms(m.lcpMs()),
+                m.cls(), m.transferBytes() / 1024.0, m.requests(), m.domNodes());
+    }
+
+    private static synchronized void append(String line) {
+        try {
+            Files.createDirectories(OUTPUT.getParent());
+            Files.writeString(OUTPUT, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not write page metrics to {} -> {}", OUTPUT, e.getMessage());
+        }
+    }
+
+    private static String ms(Double value) {
+        return value == null ? "n/a" : String.format(Locale.ROOT, "%.0fms", value);
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : null;
+    }
+
+    private static double orZero(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0;
+    }
+}
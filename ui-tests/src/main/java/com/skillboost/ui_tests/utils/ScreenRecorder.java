@@ -0,0 +1,342 @@
+package com.skillboost.ui_tests.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skillboost.common.accounts.TestAccountFactory;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the browser viewport from CDP Page.screencastFrame events into a Motion-JPEG file
+ * (concatenated JPEG frames, playable with ffplay/VLC) plus a JSON manifest with each frame's
+ * offset, size and timestamp and the recording's overhead figures.
+ *
+ * Chrome only sends a frame when the page changes; frames closer together than 1/fps are dropped
+ * on the DevTools thread, the rest are decoded and handed to a single writer thread through a
+ * bounded queue (frames are dropped, not buffered, when the writer falls behind). Recordings of
+ * passing tests are deleted; failed tests keep theirs and get them attached to Allure
+ * (see {@link FailureArtifactExtension}). Pending frames and recordings are flushed on JVM
+ * shutdown, and file names carry the surefire worker id so parallel forks never share a file.
+ *
+ * Enabled with reporting.videoRecording in ui-config.json or -Dui.video=true. Tunable through
+ * system properties: ui.video.fps (default 5), ui.video.quality (JPEG 0-100, default 60),
+ * ui.video.maxWidth / ui.video.maxHeight (default 1280x720), ui.video.dir (default target/videos).
+ */
+public final class ScreenRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenRecorder.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double FPS = Double.parseDouble(System.getProperty("ui.video.fps", "5"));
+    private static final int QUALITY = Integer.getInteger("ui.video.quality", 60);
+    private static final int MAX_WIDTH = Integer.getInteger("ui.video.maxWidth", 1280);
+    private static final int MAX_HEIGHT = Integer.getInteger("ui.video.maxHeight", 720);
+    private static final Path VIDEO_DIR = Paths.get(System.getProperty("ui.video.dir", "target/videos"));
+    private static final int QUEUE_FRAMES = Integer.getInteger("ui.video.queue", 60);
+
+    private static final Event<Map<String, Object>> SCREENCAST_FRAME =
+            new Event<>("Page.screencastFrame", input -> input.read(Json.MAP_TYPE));
+
+    private static final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(QUEUE_FRAMES);
+    private static final AtomicLong queuedBytes = new AtomicLong();
+    private static final AtomicLong peakQueuedBytes = new AtomicLong();
+    private static final AtomicInteger recordingCounter = new AtomicInteger();
+    /** Frames and close requests queued or being written; counted before they are queued so flush never misses one. */
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final ThreadLocal<Recording> recordings = new ThreadLocal<>();
+
+    static {
+        Thread writer = new Thread(ScreenRecorder::drain, "ui-video-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toMillis(10)), "ui-video-flush"));
+    }
+
+    private ScreenRecorder() {
+        // Prevent instantiation
+    }
+
+    /**
+     * A frame to write, or (with null data) the request to close its recording.
+     */
+    private record Frame(Recording recording, byte[] data, double timestamp) {
+    }
+
+    /**
+     * One test's recording. Counters are written by the DevTools thread and the writer thread.
+     */
+    private static final class Recording {
+        final DevTools devTools;
+        final Path video;
+        final Path manifest;
+        final OutputStream out;
+        final List<Map<String, Object>> frames = new ArrayList<>();
+        final long startedNanos = System.nanoTime();
+        volatile double lastFrameTimestamp = -1;
+        volatile boolean stopped;
+        volatile boolean keep;
+        volatile String videoAttachment;
+        volatile String manifestAttachment;
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong throttled = new AtomicLong();
+        final AtomicLong droppedFull = new AtomicLong();
+        final AtomicLong handlerNanos = new AtomicLong();
+        long writeNanos;
+        long offset;
+
+        Recording(DevTools devTools, Path video, Path manifest) throws IOException {
+            this.devTools = devTools;
+            this.video = video;
+            this.manifest = manifest;
+            this.out = new BufferedOutputStream(Files.newOutputStream(video), 1 << 16);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Lifecycle
+    // ─────────────────────────────────────────────
+
+    /**
+     * Starts a screencast on the driver's DevTools session for the current thread. Called by DriverFactory.
+     */
+    public static void attach(DevTools devTools) {
+        try {
+            Files.createDirectories(VIDEO_DIR);
+            String name = String.format(Locale.ROOT, "recording-w%d-%04d",
+                    TestAccountFactory.workerId(), recordingCounter.incrementAndGet());
+            Recording recording = new Recording(devTools,
+                    VIDEO_DIR.resolve(name + ".mjpeg"), VIDEO_DIR.resolve(name + ".json"));
+
+            devTools.addListener(SCREENCAST_FRAME, event -> onFrame(recording, event));
+            devTools.send(new Command<>("Page.enable", Map.of()));
+            devTools.send(new Command<>("Page.startScreencast", Map.<String, Object>of(
+                    "format", "jpeg", "quality", QUALITY, "maxWidth", MAX_WIDTH, "maxHeight", MAX_HEIGHT)));
+            recordings.set(recording);
+        } catch (IOException | WebDriverException e) {
+            System.out.println("⚠️ Could not start screen recording → " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps the current thread's recording and attaches it to the current Allure test once written.
+     * Called for failed tests, while the test's Allure context is still open.
+     */
+    public static void keepForFailedTest() {
+        Recording recording = recordings.get();
+        if (recording == null) {
+            return;
+        }
+        recording.videoAttachment = Allure.getLifecycle()
+                .prepareAttachment("Screen recording (MJPEG)", "video/x-motion-jpeg", ".mjpeg");
+        recording.manifestAttachment = Allure.getLifecycle()
+                .prepareAttachment("Screen recording manifest", "application/json", ".json");
+        recording.keep = true;
+        stop(recording);
+    }
+
+    /**
+     * Stops the current thread's recording; it is deleted unless it was kept. Called by DriverFactory
+     * before the driver quits. Never waits for the writer.
+     */
+    public static void detach() {
+        Recording recording = recordings.get();
+        recordings.remove();
+        if (recording != null) {
+            stop(recording);
+        }
+    }
+
+    private static void stop(Recording recording) {
+        if (recording.stopped) {
+            return;
+        }
+        recording.stopped = true;
+        try {
+            recording.devTools.send(new Command<>("Page.stopScreencast", Map.of()));
+        } catch (WebDriverException e) {
+            log.debug("Page.stopScreencast failed -> {}", e.getMessage());
+        }
+        pending.incrementAndGet();
+        try {
+            queue.put(new Frame(recording, null, 0)); // the writer closes the recording after its last frame
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Waits up to {@code timeoutMillis} for queued frames and recordings to be written. */
+    public static void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // DevTools thread
+    // ─────────────────────────────────────────────
+
+    private static void onFrame(Recording recording, Map<String, Object> event) {
+        long start = System.nanoTime();
+        try {
+            if (recording.stopped) {
+                return;
+            }
+            recording.received.incrementAndGet();
+            Object metadata = event.get("metadata");
+            double timestamp = metadata instanceof Map<?, ?> m && m.get("timestamp") instanceof Number n
+                    ? n.doubleValue() : (System.nanoTime() - recording.startedNanos) / 1e9;
+
+            if (recording.lastFrameTimestamp >= 0 && timestamp - recording.lastFrameTimestamp < 1.0 / FPS) {
+                recording.throttled.incrementAndGet();
+                return;
+            }
+            byte[] jpeg = Base64.getDecoder().decode(String.valueOf(event.get("data")));
+            pending.incrementAndGet();
+            if (queue.offer(new Frame(recording, jpeg, timestamp))) {
+                recording.lastFrameTimestamp = timestamp;
+                peakQueuedBytes.accumulateAndGet(queuedBytes.addAndGet(jpeg.length), Math::max);
+            } else {
+                pending.decrementAndGet();
+                recording.droppedFull.incrementAndGet();
+            }
+        } finally {
+            recording.handlerNanos.addAndGet(System.nanoTime() - start);
+            try {
+                // Chrome sends no further frames until the previous one is acknowledged
+                recording.devTools.send(new Command<>("Page.screencastFrameAck",
+                        Map.<String, Object>of("sessionId", event.get("sessionId"))));
+            } catch (WebDriverException e) {
+                log.debug("Screencast frame ack failed -> {}", e.getMessage());
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Writer thread
+    // ─────────────────────────────────────────────
+
+    private static void drain() {
+        while (true) {
+            Frame frame;
+            try {
+                frame = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                write(frame);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private static void write(Frame frame) {
+        Recording recording = frame.recording();
+        if (frame.data() == null) {
+            close(recording);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            recording.out.write(frame.data());
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("offset", recording.offset);
+            entry.put("length", frame.data().length);
+            entry.put("timestamp", frame.timestamp());
+            recording.frames.add(entry);
+            recording.offset += frame.data().length;
+        } catch (IOException e) {
+            log.warn("Could not write video frame to {} -> {}", recording.video, e.getMessage());
+        } finally {
+            queuedBytes.addAndGet(-frame.data().length);
+            recording.writeNanos += System.nanoTime() - start;
+        }
+    }
+
+    private static void close(Recording recording) {
+        try {
+            recording.out.close();
+            if (!recording.keep) {
+                Files.deleteIfExists(recording.video);
+                return;
+            }
+
+            Map<String, Object> overhead = overhead(recording);
+            Map<String, Object> manifest = new LinkedHashMap<>();
+            manifest.put("format", "mjpeg");
+            manifest.put("video", recording.video.getFileName().toString());
+            manifest.put("fps", FPS);
+            manifest.put("quality", QUALITY);
+            manifest.put("overhead", overhead);
+            manifest.put("frames", recording.frames);
+            MAPPER.writeValue(recording.manifest.toFile(), manifest);
+
+            try (InputStream in = Files.newInputStream(recording.video)) {
+                Allure.getLifecycle().writeAttachment(recording.videoAttachment, in);
+            }
+            try (InputStream in = Files.newInputStream(recording.manifest)) {
+                Allure.getLifecycle().writeAttachment(recording.manifestAttachment, in);
+            }
+            System.out.println("🎬 Screen recording kept → " + recording.video + " " + overhead);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not finish screen recording {} -> {}", recording.video, e.getMessage());
+        }
+    }
+
+    /**
+     * What the recording cost: time on the DevTools thread, time on the writer thread,
+     * frames dropped by the fps limit and by back-pressure, and the peak bytes held in the queue.
+     */
+    private static Map<String, Object> overhead(Recording recording) {
+        double seconds = (System.nanoTime() - recording.startedNanos) / 1e9;
+        Map<String, Object> overhead = new LinkedHashMap<>();
+        overhead.put("durationSeconds", round(seconds));
+        overhead.put("framesReceived", recording.received.get());
+        overhead.put("framesWritten", recording.frames.size());
+        overhead.put("framesThrottled", recording.throttled.get());
+        overhead.put("framesDroppedQueueFull", recording.droppedFull.get());
+        overhead.put("bytesWritten", recording.offset);
+        overhead.put("handlerMillis", round(recording.handlerNanos.get() / 1e6));
+        overhead.put("writerMillis", round(recording.writeNanos / 1e6));
+        overhead.put("cpuPercentOfWallClock", round((recording.handlerNanos.get() + recording.writeNanos) / 1e7 / Math.max(seconds, 1e-3)));
+        overhead.put("peakQueuedBytes", peakQueuedBytes.get());
+        return overhead;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
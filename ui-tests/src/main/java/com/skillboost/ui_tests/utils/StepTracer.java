@@ -0,0 +1,255 @@
+package com.skillboost.ui_tests.utils;
+
+import io.qameta.allure.Allure;
+import com.skillboost.common.accounts.TestAccountFactory;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records a Chrome DevTools trace around each UI step (UiBasePage action or Allure step) and
+ * attaches it to the report as gzipped trace-event JSON, loadable in chrome://tracing or Perfetto.
+ * Performance.getMetrics deltas (layouts, style recalcs, script time, heap) are attached next to it.
+ *
+ * Opt-in with reporting.tracing in ui-config.json or -Dui.trace=true; only Chromium browsers
+ * (local, or remote through the Grid's CDP proxy) support it. Nested steps are covered by the
+ * trace of the outermost one. Chrome gzips the trace itself; the stream is drained and written on
+ * a background thread so a step only waits for Chrome to flush its trace buffer.
+ * Tracing problems are logged and never fail a test.
+ *
+ * Tunable through system properties:
+ *   ui.trace.categories - comma-separated trace categories (default: the DevTools Performance panel set)
+ *   ui.trace.dir        - where trace files are kept (default target/traces), as w[worker]-[n]-[step].json.gz
+ */
+public final class StepTracer {
+
+    private static final Logger log = LoggerFactory.getLogger(StepTracer.class);
+
+    private static final String DEFAULT_CATEGORIES = String.join(",",
+            "devtools.timeline", "disabled-by-default-devtools.timeline", "disabled-by-default-devtools.timeline.frame",
+            "disabled-by-default-devtools.timeline.stack", "v8.execute", "blink.user_timing", "loading", "latencyInfo");
+    private static final List<String> CATEGORIES =
+            List.of(System.getProperty("ui.trace.categories", DEFAULT_CATEGORIES).split(","));
+    private static final Path TRACE_DIR = Paths.get(System.getProperty("ui.trace.dir", "target/traces"));
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final Event<Map<String, Object>> TRACING_COMPLETE =
+            new Event<>("Tracing.tracingComplete", input -> input.read(Json.MAP_TYPE));
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ui-trace-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicInteger traceCounter = new AtomicInteger();
+    private static final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    private StepTracer() {
+        // Prevent instantiation
+    }
+
+    /**
+     * DevTools connection of one driver plus the state of the step currently being traced.
+     */
+    private static final class Session {
+        final DevTools devTools;
+        final List<CompletableFuture<Void>> pendingWrites = new ArrayList<>();
+        volatile CompletableFuture<Map<String, Object>> completion;
+        int depth;
+        String stepName;
+        Map<String, Double> startMetrics;
+
+        Session(DevTools devTools) {
+            this.devTools = devTools;
+        }
+    }
+
+    /**
+     * Starts tracing steps of the current thread on the driver's DevTools session. Called by DriverFactory.
+     */
+    public static void attach(DevTools devTools) {
+        try {
+            Session session = new Session(devTools);
+            devTools.addListener(TRACING_COMPLETE, event -> {
+                CompletableFuture<Map<String, Object>> completion = session.completion;
+                if (completion != null) {
+                    completion.complete(event);
+                }
+            });
+            devTools.send(new Command<>("Performance.enable", Map.of()));
+            sessions.set(session);
+            System.out.println("🎥 Chrome step tracing enabled → " + TRACE_DIR.toAbsolutePath());
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Could not enable step tracing → " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for outstanding trace writes (they still read from the browser). Called by DriverFactory
+     * before it closes the DevTools session.
+     */
+    public static void detach() {
+        Session session = sessions.get();
+        sessions.remove();
+        if (session == null) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(session.pendingWrites.toArray(new CompletableFuture[0]))
+                    .get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Trace writes did not finish before the driver quit -> {}", e.getMessage());
+        }
+    }
+
+    public static void trace(String stepName, Runnable action) {
+        begin(stepName);
+        try {
+            action.run();
+        } finally {
+            end();
+        }
+    }
+
+    public static <T> T trace(String stepName, Supplier<T> action) {
+        begin(stepName);
+        try {
+            return action.get();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Starts tracing unless an enclosing step is already being traced.
+     */
+    public static void begin(String stepName) {
+        Session session = sessions.get();
+        if (session == null || session.depth++ > 0) {
+            return;
+        }
+        try {
+            session.stepName = stepName;
+            session.startMetrics = performanceMetrics(session.devTools);
+            session.devTools.send(new Command<>("Tracing.start", Map.<String, Object>of(
+                    "transferMode", "ReturnAsStream",
+                    "streamFormat", "json",
+                    "streamCompression", "gzip",
+                    "traceConfig", Map.<String, Object>of("includedCategories", CATEGORIES))));
+        } catch (RuntimeException e) {
+            log.warn("Could not start trace for step '{}' -> {}", stepName, e.getMessage());
+            session.stepName = null;
+        }
+    }
+
+    /**
+     * Stops the trace of the outermost step; the trace is written and attached asynchronously.
+     */
+    public static void end() {
+        Session session = sessions.get();
+        if (session == null || --session.depth > 0 || session.stepName == null) {
+            return;
+        }
+        String stepName = session.stepName;
+        session.stepName = null;
+        try {
+            CompletableFuture<Map<String, Object>> completion = new CompletableFuture<>();
+            session.completion = completion;
+            session.devTools.send(new Command<>("Tracing.end", Map.of()));
+            Map<String, Object> complete = completion.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            Allure.addAttachment("Performance metrics — " + stepName, "text/plain",
+                    metricsDelta(session.startMetrics, performanceMetrics(session.devTools)), ".txt");
+
+            String handle = String.valueOf(complete.get("stream"));
+            boolean gzipped = "gzip".equals(complete.get("streamCompression"));
+            Path file = TRACE_DIR.resolve(String.format(Locale.ROOT, "w%d-%04d-%s.json.gz", TestAccountFactory.workerId(),
+                    traceCounter.incrementAndGet(), stepName.replaceAll("[^A-Za-z0-9._-]+", "_")));
+            // Reserve the attachment on the current test now; the content is written from the writer thread
+            String source = Allure.getLifecycle().prepareAttachment("Chrome trace — " + stepName, "application/gzip", ".json.gz");
+
+            session.pendingWrites.add(CompletableFuture.runAsync(
+                    () -> writeTrace(session.devTools, handle, gzipped, file, source), writer));
+        } catch (Exception e) {
+            log.warn("Could not stop trace for step '{}' -> {}", stepName, e.getMessage());
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Trace stream
+    // ─────────────────────────────────────────────
+
+    private static void writeTrace(DevTools devTools, String handle, boolean gzipped, Path file, String attachmentSource) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream raw = Files.newOutputStream(file);
+                 OutputStream out = gzipped ? raw : new GZIPOutputStream(raw)) {
+                boolean eof = false;
+                while (!eof) {
+                    Map<String, Object> chunk = devTools.send(new Command<>("IO.read",
+                            Map.<String, Object>of("handle", handle, "size", 1 << 20), input -> input.read(Json.MAP_TYPE)));
+                    String data = String.valueOf(chunk.getOrDefault("data", ""));
+                    out.write(Boolean.TRUE.equals(chunk.get("base64Encoded"))
+                            ? Base64.getDecoder().decode(data)
+                            : data.getBytes(StandardCharsets.UTF_8));
+                    eof = Boolean.TRUE.equals(chunk.get("eof"));
+                }
+            } finally {
+                devTools.send(new Command<>("IO.close", Map.<String, Object>of("handle", handle)));
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                Allure.getLifecycle().writeAttachment(attachmentSource, in);
+            }
+        } catch (IOException | WebDriverException e) {
+            log.warn("Could not write trace {} -> {}", file, e.getMessage());
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // Performance.getMetrics
+    // ─────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Double> performanceMetrics(DevTools devTools) {
+        Map<String, Object> result = devTools.send(new Command<>("Performance.getMetrics", Map.of(),
+                input -> input.read(Json.MAP_TYPE)));
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (Object entry : (List<Object>) result.getOrDefault("metrics", List.of())) {
+            Map<String, Object> metric = (Map<String, Object>) entry;
+            metrics.put(String.valueOf(metric.get("name")), ((Number) metric.get("value")).doubleValue());
+        }
+        return metrics;
+    }
+
+    private static String metricsDelta(Map<String, Double> before, Map<String, Double> after) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%-28s %14s %14s%n", "Metric", "After", "Delta"));
+        after.forEach((name, value) -> text.append(String.format(Locale.ROOT, "%-28s %14.3f %+14.3f%n",
+                name, value, value - before.getOrDefault(name, 0.0))));
+        return text.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.skillboost.ui_tests.utils;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Traces Allure steps ({@code Allure.step(...)}, and {@code @Step} methods when AspectJ weaving
+ * is configured) with {@link StepTracer}. Registered in META-INF/services; a no-op unless
+ * step tracing is enabled for the current thread's driver.
+ */
+public class TracingStepListener implements StepLifecycleListener {
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        StepTracer.begin(result.getName());
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        StepTracer.end();
+    }
+}
@@ -0,0 +1,15 @@
+package com.skillboost.ui_tests.utils;
+
+import com.skillboost.common.impact.AppUnderTest;
+
+/**
+ * The web application the UI suite drives: the base URL of the active environment in ui-config.json.
+ * Registered in META-INF/services for {@link com.skillboost.common.impact.TestResultCache}.
+ */
+public class UiAppUnderTest implements AppUnderTest {
+
+    @Override
+    public String baseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+}
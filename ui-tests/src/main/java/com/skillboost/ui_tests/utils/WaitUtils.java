@@ -9,7 +9,6 @@ import java.sql.DriverManager;
 import java.time.Duration;
 import java.util.List;
 
-import static ch.qos.logback.core.spi.ComponentTracker.DEFAULT_TIMEOUT;
 
 public final class WaitUtils {
 
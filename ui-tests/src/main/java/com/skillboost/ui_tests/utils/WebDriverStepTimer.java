@@ -0,0 +1,39 @@
+package com.skillboost.ui_tests.utils;
+
+import com.skillboost.perf.baseline.PerfRecorder;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Times every WebDriver / WebElement command (get, findElement, click, sendKeys, ...) for the
+ * performance regression gate. Attached by {@link DriverFactory} through an EventFiringDecorator
+ * when performance recording is enabled.
+ */
+public class WebDriverStepTimer implements WebDriverListener {
+
+    private static final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            PerfRecorder.record("ui", method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed commands (e.g. element not found after the implicit wait) are not latency samples
+        startTimes.get().poll();
+    }
+}
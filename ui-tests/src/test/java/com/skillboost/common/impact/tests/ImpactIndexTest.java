@@ -0,0 +1,96 @@
+package com.skillboost.common.impact.tests;
+
+import com.skillboost.common.impact.ImpactIndex;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("Test impact analysis")
+public class ImpactIndexTest {
+
+    private static final String SIGNUP_TEST = "com.skillboost.ui_tests.tests.SignupTest";
+    private static final String FORGOT_PASSWORD_TEST = "com.skillboost.ui_tests.tests.ForgotPasswordTest";
+    private static final String MODULE = "ui-tests/";
+    private static final String PAGES = MODULE + "src/main/java/com/skillboost/ui_tests/pages/";
+
+    private static ImpactIndex index;
+
+    @BeforeAll
+    static void scanCompiledTests() {
+        // This module's own build output is the index input
+        index = ImpactIndex.scan(ImpactIndex.classesDirs());
+    }
+
+    @Test
+    @Story("Bytecode scan")
+    @Description("A UI test reaches its page objects and UiBasePage helpers transitively and names its data file")
+    @DisplayName("Index: transitive class and data file dependencies")
+    void scansTransitiveDependencies() {
+        assertThat(index.classDependencies(SIGNUP_TEST), hasItems(
+                SIGNUP_TEST,
+                "com.skillboost.ui_tests.pages.SignupPage",
+                "com.skillboost.ui_tests.base.UiBasePage",
+                "com.skillboost.ui_tests.utils.WaitUtils"));
+        assertThat(index.resourceDependencies(SIGNUP_TEST), hasItem("signup-data.json"));
+    }
+
+    @Test
+    @Story("Selection")
+    @Description("A page object change selects the tests that use it; API module changes select nothing here")
+    @DisplayName("Selection: page object change")
+    void pageObjectChange() {
+        ImpactIndex.Selection selection = index.select(List.of(PAGES + "ForgotPasswordPage.java", "README.md"), MODULE);
+
+        assertThat(selection.runsAll(), is(false));
+        assertThat(selection.includes(FORGOT_PASSWORD_TEST), is(true));
+        assertThat(selection.includes(SIGNUP_TEST), is(false));
+
+        ImpactIndex.Selection apiOnly = index.select(List.of(
+                "api-tests/src/main/java/com/skillboost/api_test/endpoints/UserEndpoints.java",
+                "api-tests/src/main/resources/api/schemas/register-success.json"), MODULE);
+        assertThat(apiOnly.runsAll(), is(false));
+        assertThat(apiOnly.includes(FORGOT_PASSWORD_TEST), is(false));
+        assertThat(apiOnly.includes(SIGNUP_TEST), is(false));
+    }
+
+    @Test
+    @Story("Selection")
+    @Description("A data file change selects the tests that read it, whether found in bytecode or traced at runtime")
+    @DisplayName("Selection: data file change")
+    void dataFileChange() {
+        ImpactIndex.Selection signupData = index.select(List.of(MODULE + "src/test/resources/ui/testdata/signup-data.json"), MODULE);
+        assertThat(signupData.includes(SIGNUP_TEST), is(true));
+        assertThat(signupData.includes(FORGOT_PASSWORD_TEST), is(false));
+
+        ImpactIndex traced = index.withRuntime(Map.of(FORGOT_PASSWORD_TEST, Set.of("ui/testdata/reset-links.json")));
+        ImpactIndex.Selection tracedData = traced.select(List.of(MODULE + "src/test/resources/ui/testdata/reset-links.json"), MODULE);
+        assertThat(tracedData.includes(FORGOT_PASSWORD_TEST), is(true));
+        assertThat(tracedData.includes(SIGNUP_TEST), is(false));
+    }
+
+    @Test
+    @Story("Selection")
+    @Description("Build configuration, classes used by registered listeners and modules this one depends on "
+            + "select the full suite; unknown tests always run")
+    @DisplayName("Selection: full-suite fallbacks")
+    void fullSuiteFallbacks() {
+        assertThat(index.select(List.of("pom.xml"), MODULE).runsAll(), is(true));
+        assertThat(index.select(List.of(MODULE + "pom.xml"), MODULE).runsAll(), is(true));
+        assertThat(index.select(List.of(MODULE + "src/test/resources/junit-platform.properties"), MODULE).runsAll(), is(true));
+        assertThat(index.select(List.of(MODULE + "src/main/java/com/skillboost/ui_tests/utils/TracingStepListener.java"), MODULE)
+                .runsAll(), is(true));
+        assertThat(index.select(List.of("core/src/main/java/com/skillboost/common/accounts/TestAccountFactory.java"), MODULE)
+                .runsAll(), is(true));
+
+        assertThat(index.select(List.of("README.md"), MODULE).includes("com.skillboost.NotYetCompiledTest"), is(true));
+    }
+}
@@ -0,0 +1,49 @@
+package com.skillboost.common.impact.tests;
+
+import com.skillboost.common.impact.ImpactIndex;
+import com.skillboost.common.impact.InputFingerprint;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Framework")
+@Feature("Test result cache")
+public class InputFingerprintTest {
+
+    private static final List<Path> CLASSES = ImpactIndex.classesDirs();
+    private static final String SIGNUP_TEST = "com.skillboost.ui_tests.tests.SignupTest";
+    private static final String FORGOT_PASSWORD_TEST = "com.skillboost.ui_tests.tests.ForgotPasswordTest";
+
+    @Test
+    @Story("Fingerprint")
+    @Description("Identical inputs give the same fingerprint; a new app version or a changed data file gives a new one")
+    @DisplayName("Fingerprint: changes only with the test's inputs")
+    void fingerprintFollowsInputs(@TempDir Path resources) throws IOException {
+        Path data = resources.resolve("ui/testdata/signup-data.json");
+        Files.createDirectories(data.getParent());
+        Files.writeString(data, "{\"valid\": {}}");
+        Files.writeString(resources.resolve("ui/testdata/forgot-password-data.json"), "{}");
+        ImpactIndex index = ImpactIndex.scan(CLASSES);
+
+        String signup = new InputFingerprint(index, CLASSES, List.of(resources), "build-1").of(SIGNUP_TEST);
+        String forgotPassword = new InputFingerprint(index, CLASSES, List.of(resources), "build-1").of(FORGOT_PASSWORD_TEST);
+        assertThat(new InputFingerprint(index, CLASSES, List.of(resources), "build-1").of(SIGNUP_TEST), is(signup));
+        assertThat(signup, matchesPattern("[0-9a-f]{64}"));
+
+        assertThat(new InputFingerprint(index, CLASSES, List.of(resources), "build-2").of(SIGNUP_TEST), is(not(signup)));
+
+        Files.writeString(data, "{\"valid\": {\"email\": \"changed@example.com\"}}");
+        InputFingerprint changedData = new InputFingerprint(index, CLASSES, List.of(resources), "build-1");
+        assertThat(changedData.of(SIGNUP_TEST), is(not(signup)));
+        assertThat(changedData.of(FORGOT_PASSWORD_TEST), is(forgotPassword));
+    }
+}
@@ -2,28 +2,39 @@ package com.skillboost.ui_tests.tests;
 
 
 
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.AccountLeaseService.AccountLease;
+import com.skillboost.common.accounts.TestAccount;
 import com.skillboost.ui_tests.base.UiBaseTest;
 import com.skillboost.ui_tests.pages.DashboardPage;
 import com.skillboost.ui_tests.pages.HomePage;
 import com.skillboost.ui_tests.pages.LoginPage;
 import com.skillboost.ui_tests.utils.AssertionLogger;
-import com.skillboost.ui_tests.utils.JsonDataReader;
 import com.skillboost.ui_tests.utils.WaitUtils;
 import io.qameta.allure.Description;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
 
 public class DashboardTest extends UiBaseTest {
 
-    private static final String TESTDATA_FILE = "login-data.json";
+    /** Account the current test is logged in as; held until the test ends. */
+    private AccountLease lease;
+
+    @AfterEach
+    public void releaseAccount() {
+        if (lease != null) {
+            lease.close();
+            lease = null;
+        }
+    }
 
     /**
-     * Helper method to login with valid credentials
+     * Helper method to login with a leased, pre-provisioned account
      */
     private DashboardPage loginAndNavigateToDashboard() {
         HomePage homePage = new HomePage(driver);
@@ -34,12 +45,11 @@ public class DashboardTest extends UiBaseTest {
         WaitUtils.waitForVisibility(loginPage.getLogo());
         WaitUtils.waitForVisibility(loginPage.getWelcomeBackText());
 
-        Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
-        String email = testData.get("validUser").get("email");
-        String password = testData.get("validUser").get("password");
+        lease = AccountLeaseService.lease();
+        TestAccount account = lease.account();
 
-        loginPage.enterEmail(email);
-        loginPage.enterPassword(password);
+        loginPage.enterEmail(account.email());
+        loginPage.enterPassword(account.password());
         loginPage.clickLogin();
 
         DashboardPage dashboardPage = new DashboardPage(driver);
@@ -12,7 +12,6 @@ import org.junit.jupiter.api.*;
 
 import java.util.Map;
 
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @Epic("UI Tests")
 @Feature("Forgot Password Page")
 @Story("User accesses Forgot Password page and verifies its elements")
@@ -33,7 +32,6 @@ public class ForgotPasswordTest extends UiBaseTest {
     }
 
     @Test
-    @Order(1)
     @DisplayName("Verify Forgot Password page elements")
     @Description("Ensures all key elements on the Forgot Password page are visible and interactable.")
     @Severity(SeverityLevel.CRITICAL)
@@ -78,7 +76,6 @@ public class ForgotPasswordTest extends UiBaseTest {
 
 
     @Test
-    @Order(2)
     @DisplayName("Verify 'Send Link' button activates after entering a valid email")
     @Description("Ensures that the 'Send Link' button becomes enabled once a valid email is entered on the Forgot Password page.")
     @Severity(SeverityLevel.CRITICAL)
@@ -129,7 +126,6 @@ public class ForgotPasswordTest extends UiBaseTest {
 
 
     @Test
-    @Order(3)
     @DisplayName("Verify 'Send Link' button remains disabled when invalid email is entered")
     @Description("Ensures that the 'Send Link' button stays inactive when an invalid email is entered on the Forgot Password page.")
     @Severity(SeverityLevel.CRITICAL)
@@ -180,7 +176,6 @@ public class ForgotPasswordTest extends UiBaseTest {
 
 
     @Test
-    @Order(4)
     @DisplayName("Verify navigation from Forgot Password page back to Login page")
     @Description("Ensures that clicking the 'Back to Login' button on the Forgot Password page correctly navigates the user to the Login page.")
     @Severity(SeverityLevel.CRITICAL)
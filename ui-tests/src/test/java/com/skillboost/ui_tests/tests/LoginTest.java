@@ -2,6 +2,10 @@
 package com.skillboost.ui_tests.tests;
 
 
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.AccountLeaseService.AccountLease;
+import com.skillboost.common.accounts.TestAccount;
+import com.skillboost.common.accounts.TestAccountFactory;
 import com.skillboost.ui_tests.base.UiBaseTest;
 import com.skillboost.ui_tests.pages.*;
 import com.skillboost.ui_tests.utils.AssertionLogger;
@@ -77,11 +81,11 @@ public class LoginTest extends UiBaseTest {
         WaitUtils.waitForVisibility(loginPage.getWelcomeBackText());
         log.info("Login page elements are visible and ready for interaction.");
 
-        // Load valid credentials from JSON
-        Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
-        String email = testData.get("validUser").get("email");
-        String password = testData.get("validUser").get("password");
-        log.info("Loaded valid credentials from JSON file.");
+        // Well-formed credentials; the button only checks the format, so no registered user is needed
+        TestAccount account = TestAccountFactory.newAccount();
+        String email = account.email();
+        String password = account.password();
+        log.info("Generated valid credentials: {}", email);
 
         // Enter email and password
         loginPage.enterEmail(email);
@@ -409,25 +413,25 @@ public class LoginTest extends UiBaseTest {
         WaitUtils.waitForVisibility(loginPage.getWelcomeBackText());
         log.info("Login page elements are visible.");
 
-        // Load valid credentials from JSON
-        Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
-        String email = testData.get("validUser").get("email");
-        String password = testData.get("validUser").get("password");
-
-        // Enter credentials and login
-        loginPage.enterEmail(email);
-        loginPage.enterPassword(password);
-        loginPage.clickLogin();
-        log.info("Entered valid credentials and clicked Login.");
-
-        // Initialize Dashboard page and wait for main elements
-        DashboardPage dashboardPage = new DashboardPage(driver);
-        WaitUtils.waitForVisibility(dashboardPage.getLogoElement());
-        log.info("Dashboard page loaded successfully.");
-
-        // --- Verify Dashboard elements using page methods ---
-        AssertionLogger.assertTrueWithLog(dashboardPage.isLogoVisible(), "Dashboard logo is visible.");
-        AssertionLogger.assertTrueWithLog(dashboardPage.isWelcomeTextVisible(), "Dashboard welcome text is visible.");
+        // Lease a pre-provisioned user, so parallel forks never log in as the same account
+        try (AccountLease lease = AccountLeaseService.lease()) {
+            TestAccount account = lease.account();
+
+            // Enter credentials and login
+            loginPage.enterEmail(account.email());
+            loginPage.enterPassword(account.password());
+            loginPage.clickLogin();
+            log.info("Entered credentials of leased account {} and clicked Login.", account.email());
+
+            // Initialize Dashboard page and wait for main elements
+            DashboardPage dashboardPage = new DashboardPage(driver);
+            WaitUtils.waitForVisibility(dashboardPage.getLogoElement());
+            log.info("Dashboard page loaded successfully.");
+
+            // --- Verify Dashboard elements using page methods ---
+            AssertionLogger.assertTrueWithLog(dashboardPage.isLogoVisible(), "Dashboard logo is visible.");
+            AssertionLogger.assertTrueWithLog(dashboardPage.isWelcomeTextVisible(), "Dashboard welcome text is visible.");
+        }
 
 
         // You can also optionally check sidebar menus if needed
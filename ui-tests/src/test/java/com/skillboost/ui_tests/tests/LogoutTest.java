@@ -1,12 +1,14 @@
 package com.skillboost.ui_tests.tests;
 
 
+import com.skillboost.common.accounts.AccountLeaseService;
+import com.skillboost.common.accounts.AccountLeaseService.AccountLease;
+import com.skillboost.common.accounts.TestAccount;
 import com.skillboost.ui_tests.base.UiBaseTest;
 import com.skillboost.ui_tests.pages.DashboardPage;
 import com.skillboost.ui_tests.pages.HomePage;
 import com.skillboost.ui_tests.pages.LoginPage;
 import com.skillboost.ui_tests.utils.AssertionLogger;
-import com.skillboost.ui_tests.utils.JsonDataReader;
 import com.skillboost.ui_tests.utils.WaitUtils;
 import io.qameta.allure.Description;
 import io.qameta.allure.Severity;
@@ -16,16 +18,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
-
 /**
  * UI Test for SkillBoost Logout functionality.
  */
 @Tag("smoke")
 public class LogoutTest extends UiBaseTest {
 
-    private static final String TESTDATA_FILE = "login-data.json";
-
     @Test
     @Story("Logout Flow")
     @DisplayName("Verify that a valid user can log in and log out successfully")
@@ -40,25 +38,25 @@ public class LogoutTest extends UiBaseTest {
         homePage.clickLoginButton();
         WaitUtils.waitForUrlContains("/login");
 
-        // Load valid credentials
-        Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
-        String email = testData.get("validUser").get("email");
-        String password = testData.get("validUser").get("password");
+        // Lease a pre-provisioned user; logging out must not end another test's session
+        try (AccountLease lease = AccountLeaseService.lease()) {
+            TestAccount account = lease.account();
 
-        // Enter credentials and log in
-        loginPage.enterEmail(email);
-        loginPage.enterPassword(password);
-        loginPage.clickLogin();
+            // Enter credentials and log in
+            loginPage.enterEmail(account.email());
+            loginPage.enterPassword(account.password());
+            loginPage.clickLogin();
 
-        // Wait for dashboard
-        WaitUtils.waitForVisibility(dashboardPage.getLogoElement());
-        AssertionLogger.assertTrueWithLog(
-                dashboardPage.isLogoVisible(),
-                "Dashboard logo is visible – user has successfully logged in."
-        );
+            // Wait for dashboard
+            WaitUtils.waitForVisibility(dashboardPage.getLogoElement());
+            AssertionLogger.assertTrueWithLog(
+                    dashboardPage.isLogoVisible(),
+                    "Dashboard logo is visible – user has successfully logged in."
+            );
 
-        // Perform logout
-        dashboardPage.clickLogout();
+            // Perform logout
+            dashboardPage.clickLogout();
+        }
 
         // Verify redirection to login page
         WaitUtils.waitForUrlContains("/login");
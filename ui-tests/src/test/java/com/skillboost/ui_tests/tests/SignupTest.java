@@ -1,6 +1,8 @@
 package com.skillboost.ui_tests.tests;
 
 
+import com.skillboost.common.accounts.TestAccount;
+import com.skillboost.common.accounts.TestAccountFactory;
 import com.skillboost.ui_tests.base.UiBaseTest;
 import com.skillboost.ui_tests.pages.HomePage;
 import com.skillboost.ui_tests.pages.LoginPage;
@@ -24,7 +26,6 @@ import java.util.Map;
 @Epic("UI Tests")
 @Feature("Signup Page")
 @Story("User navigates and signs up successfully")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @Tag("regression")
 public class SignupTest extends UiBaseTest {
 
@@ -40,7 +41,6 @@ public class SignupTest extends UiBaseTest {
     }
 
     @Test
-    @Order(1)
     @DisplayName("Verify user navigates from the homepage to signup page")
     @Description("This test ensures that user can navigate from the homepage to the signup page successfully.")
     @Severity(SeverityLevel.CRITICAL)
@@ -66,7 +66,6 @@ public class SignupTest extends UiBaseTest {
 
 
     @Test
-    @Order(2)
     @Description("Ensures that a user can fill and submit the signup form with valid credentials.")
     @DisplayName("Verify user submits signup form with valid details")
     @Severity(SeverityLevel.CRITICAL)
@@ -83,18 +82,17 @@ public class SignupTest extends UiBaseTest {
                 "Signup page header is visible — page loaded successfully."
         );
 
-        // Step 2: Load test data from JSON
-        log.info("Loading test data from JSON file: {}", TESTDATA_FILE);
-        Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
-        Map<String, String> validUser = testData.get("validUser");
+        // Step 2: Generate a fresh account so parallel workers and reruns never hit "Email already exists"
+        TestAccount account = TestAccountFactory.newAccount();
+        log.info("Generated signup account: {}", account.email());
 
-        String email = validUser.get("email");
-        String password = validUser.get("password");
-        String confirmPassword = validUser.get("confirmPassword");
+        String email = account.email();
+        String password = account.password();
+        String confirmPassword = account.password();
 
-        AssertionLogger.assertNotNullWithLog(email, "Email loaded from JSON is not null.");
-        AssertionLogger.assertNotNullWithLog(password, "Password loaded from JSON is not null.");
-        AssertionLogger.assertNotNullWithLog(confirmPassword, "Confirm Password loaded from JSON is not null.");
+        AssertionLogger.assertNotNullWithLog(email, "Generated email is not null.");
+        AssertionLogger.assertNotNullWithLog(password, "Generated password is not null.");
+        AssertionLogger.assertNotNullWithLog(confirmPassword, "Confirm Password (generated password) is not null.");
 
         // Step 3: Fill in the Signup Form
         log.info("Filling in signup form fields...");
@@ -124,7 +122,6 @@ public class SignupTest extends UiBaseTest {
 
 
     @Test
-    @Order(3)
     @Description("Validates that the Create Account button remains disabled when all signup fields are empty.")
     @DisplayName("Verify Create Account button is disabled for empty signup form")
     @Severity(SeverityLevel.NORMAL)
@@ -161,7 +158,6 @@ public class SignupTest extends UiBaseTest {
 
 
     @Test
-    @Order(4)
     @Description("Validates that the Create Account button remains disabled when password and confirm password do not match.")
     @DisplayName("Verify Create Account button is disabled for mismatched passwords")
     @Severity(SeverityLevel.NORMAL)
@@ -183,12 +179,13 @@ public class SignupTest extends UiBaseTest {
         Map<String, Map<String, String>> testData = JsonDataReader.getTestData(TESTDATA_FILE);
         Map<String, String> mismatchedUser = testData.get("mismatchedUser");
 
-        String email = mismatchedUser.get("email");
+        // Unique email so this check never depends on whether the data-file address was registered
+        String email = TestAccountFactory.newEmail();
         String password = mismatchedUser.get("password");
         String confirmPassword = mismatchedUser.get("confirmPassword");
 
         // Safety checks
-        AssertionLogger.assertNotNullWithLog(email, "Email loaded from JSON is not null.");
+        AssertionLogger.assertNotNullWithLog(email, "Generated email is not null.");
         AssertionLogger.assertNotNullWithLog(password, "Password loaded from JSON is not null.");
         AssertionLogger.assertNotNullWithLog(confirmPassword, "Confirm Password loaded from JSON is not null.");
 
@@ -215,7 +212,6 @@ public class SignupTest extends UiBaseTest {
 
 
     @Test
-    @Order(5)
     @Description("Validates that the Create Account button remains disabled when email does not meet the required format.")
     @DisplayName("Verify Create Account button is disabled for wrong email format")
     @Severity(SeverityLevel.NORMAL)
@@ -262,7 +258,6 @@ public class SignupTest extends UiBaseTest {
 
 
     @Test
-    @Order(6)
     @Description("Validates that the Create Account button remains disabled when password length not meet the required format.")
     @DisplayName("Verify Create Account button is disabled for wrong password length")
     @Severity(SeverityLevel.NORMAL)